@@ -0,0 +1,120 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.api.Spell;
+import com.spellcraft.api.SpellCaster;
+import com.spellcraft.api.SpellCategory;
+import com.spellcraft.api.SpellResult;
+import com.spellcraft.api.magic.MagicElement;
+import org.bukkit.Location;
+import org.bukkit.event.block.Action;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Spell whose cast does nothing, so benchmarks measure only the code around it.
+ */
+public final class BenchSpell implements Spell {
+
+    private final String name;
+    private final int magicCost;
+    private final long cooldown;
+    private final MagicElement element;
+    private int id = -1;
+
+    public BenchSpell(String name, int magicCost, long cooldown, MagicElement element) {
+        this.name = name;
+        this.magicCost = magicCost;
+        this.cooldown = cooldown;
+        this.element = element;
+    }
+
+    /**
+     * Caches the registry id, like {@code AbstractSpell} does on registration.
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    @Override
+    public int getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Benchmark spell";
+    }
+
+    @Override
+    public SpellCategory getCategory() {
+        return SpellCategory.values()[0];
+    }
+
+    @Override
+    public Integer getMagicCost() {
+        return magicCost;
+    }
+
+    @Override
+    public Long getCooldown() {
+        return cooldown;
+    }
+
+    @Override
+    public Double getRange() {
+        return 0.0;
+    }
+
+    @Override
+    public SpellResult cast(SpellCaster caster) {
+        return SpellResult.SUCCESS;
+    }
+
+    @Override
+    public Boolean canCast(SpellCaster caster) {
+        return true;
+    }
+
+    @Override
+    public String getPermission() {
+        return null;
+    }
+
+    @Override
+    public Boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+    }
+
+    @Override
+    public boolean isSneakingAbility() {
+        return false;
+    }
+
+    @Override
+    public Action getAbilityActivationAction() {
+        return Action.LEFT_CLICK_AIR;
+    }
+
+    @Override
+    public MagicElement getElement() {
+        return element;
+    }
+
+    @Override
+    public String getInstructions() {
+        return "";
+    }
+
+    @Override
+    public @NotNull Location getLocation() {
+        return new Location(null, 0, 0, 0);
+    }
+}
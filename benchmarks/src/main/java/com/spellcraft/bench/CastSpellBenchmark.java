@@ -0,0 +1,80 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.api.SpellResult;
+import com.spellcraft.api.house.House;
+import com.spellcraft.core.SpellCasterImpl;
+import com.spellcraft.core.SpellManagerImpl;
+import com.spellcraft.core.perks.PerkManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpellCasterImpl#castSpell} through each of its precondition outcomes.
+ * The spells' own cast does nothing, so this is the per-cast overhead of SpellCraft itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CastSpellBenchmark {
+
+    private SpellCasterImpl caster;
+    private BenchSpell free;
+    private BenchSpell cooling;
+    private BenchSpell expensive;
+    private BenchSpell unknown;
+
+    @Setup
+    public void setup() {
+        SpellManagerImpl manager = new SpellManagerImpl();
+        List<BenchSpell> spells = Fixtures.registerSpells(manager, 32, 0, 0);
+        PerkManager perks = Fixtures.perks();
+
+        free = spells.get(0);
+        cooling = new BenchSpell("Cooling", 0, 60_000, null);
+        expensive = new BenchSpell("Expensive", 1_000, 0, null);
+        unknown = new BenchSpell("Unknown", 0, 0, null);
+        for (BenchSpell spell : List.of(cooling, expensive, unknown)) {
+            manager.registerSpell(spell);
+            spell.setId(manager.getSpellId(spell));
+        }
+
+        caster = Fixtures.caster(manager, perks, House.VULMERON, spells);
+        caster.learnSpell(cooling);
+        caster.learnSpell(expensive);
+        caster.setCooldown(cooling, 60_000);
+    }
+
+    @Benchmark
+    public SpellResult success() {
+        return caster.castSpell(free);
+    }
+
+    @Benchmark
+    public SpellResult onCooldown() {
+        return caster.castSpell(cooling);
+    }
+
+    @Benchmark
+    public SpellResult notEnoughMagic() {
+        return caster.castSpell(expensive);
+    }
+
+    @Benchmark
+    public SpellResult notLearned() {
+        return caster.castSpell(unknown);
+    }
+}
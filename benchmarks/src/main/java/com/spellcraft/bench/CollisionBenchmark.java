@@ -0,0 +1,68 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.util.CollisionUtil;
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CollisionUtil#getFirstLivingEntityHit} along a 30 block ray through a crowd.
+ * <p>
+ * {@code sameTick} reuses the spatial index built earlier in the tick, as every cast after
+ * the first one in a tick does. {@code newTick} pays for rebuilding it from chunk entities.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    @Param({"0", "16", "256"})
+    public int entities;
+
+    private Location start;
+    private Location end;
+
+    @Setup
+    public void setup() {
+        Stubs.install();
+        Stubs.FakeWorld world = new Stubs.FakeWorld();
+
+        // Scatter entities around the ray without blocking it, so every query scans to the end
+        Random random = new Random(42);
+        for (int i = 0; i < entities; i++) {
+            double x = random.nextDouble() * 40 - 5;
+            double z = (random.nextBoolean() ? 1 : -1) * (2 + random.nextDouble() * 10);
+            world.spawn(x, 64, z);
+        }
+
+        start = new Location(world.getWorld(), 0, 65, 0);
+        end = new Location(world.getWorld(), 30, 65, 0);
+    }
+
+    @Benchmark
+    public LivingEntity sameTick() {
+        return CollisionUtil.getFirstLivingEntityHit(start, end, 0.5);
+    }
+
+    @Benchmark
+    public LivingEntity newTick() {
+        Stubs.nextTick();
+        return CollisionUtil.getFirstLivingEntityHit(start, end, 0.5);
+    }
+}
@@ -0,0 +1,84 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.api.house.House;
+import com.spellcraft.api.magic.MagicElement;
+import com.spellcraft.core.MagicRegen;
+import com.spellcraft.core.SpellCasterImpl;
+import com.spellcraft.core.SpellManagerImpl;
+import com.spellcraft.core.perks.PerkManager;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the plugin objects shared by the benchmarks, wired the way the plugin wires them.
+ */
+public final class Fixtures {
+
+    /** Elements cycled through when creating spells, so perk lookups hit both matching and neutral slots */
+    private static final MagicElement[] ELEMENTS = {
+            MagicElement.FIRE, MagicElement.WATER, MagicElement.EARTH, MagicElement.DARK, MagicElement.AIR
+    };
+
+    /** Private constructor to prevent instantiation. */
+    private Fixtures() {}
+
+    /**
+     * Creates a registry holding {@code count} spells named {@code Spell0..SpellN}.
+     *
+     * @return the registered spells, in id order
+     */
+    public static List<BenchSpell> registerSpells(SpellManagerImpl manager, int count, int magicCost, long cooldown) {
+        List<BenchSpell> spells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BenchSpell spell = new BenchSpell("Spell" + i, magicCost, cooldown, ELEMENTS[i % ELEMENTS.length]);
+            manager.registerSpell(spell);
+            spell.setId(manager.getSpellId(spell));
+            spells.add(spell);
+        }
+        return spells;
+    }
+
+    /**
+     * @return a perk manager compiled from the plugin's bundled {@code perks.yml}
+     */
+    public static PerkManager perks() {
+        YamlConfiguration config = new YamlConfiguration();
+        try (InputStream in = SpellCasterImpl.class.getClassLoader().getResourceAsStream("perks.yml")) {
+            if (in != null) {
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    config.load(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InvalidConfigurationException e) {
+            throw new IllegalStateException("Bundled perks.yml is invalid", e);
+        }
+        return new PerkManager(() -> config);
+    }
+
+    /**
+     * Creates a loaded caster in the given house who knows every spell.
+     */
+    public static SpellCasterImpl caster(SpellManagerImpl manager, PerkManager perks, House house, List<? extends BenchSpell> spells) {
+        Stubs.install();
+        SpellCasterImpl caster = new SpellCasterImpl(
+                Stubs.player("Bench"), 100, new MagicRegen(2, 40, perks::getBonusRegen), perks, manager
+        );
+        caster.setHouse(house);
+        for (BenchSpell spell : spells) {
+            caster.learnSpell(spell);
+        }
+        caster.markReady(true);
+        return caster;
+    }
+}
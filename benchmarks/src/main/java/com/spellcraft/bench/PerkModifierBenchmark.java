@@ -0,0 +1,80 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.api.house.House;
+import com.spellcraft.core.SpellCasterImpl;
+import com.spellcraft.core.SpellManagerImpl;
+import com.spellcraft.core.perks.PerkManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PerkManager} cost and cooldown modifiers, through the caster's cache and through
+ * the compiled table directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PerkModifierBenchmark {
+
+    @Param({"8", "64"})
+    public int spellCount;
+
+    private PerkManager perks;
+    private SpellCasterImpl caster;
+    private BenchSpell[] spells;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SpellManagerImpl manager = new SpellManagerImpl();
+        List<BenchSpell> registered = Fixtures.registerSpells(manager, spellCount, 20, 5_000);
+        perks = Fixtures.perks();
+        caster = Fixtures.caster(manager, perks, House.VULMERON, registered);
+        spells = registered.toArray(BenchSpell[]::new);
+    }
+
+    private BenchSpell nextSpell() {
+        BenchSpell spell = spells[next];
+        next = next + 1 == spells.length ? 0 : next + 1;
+        return spell;
+    }
+
+    @Benchmark
+    public void cachedModifiers(Blackhole bh) {
+        BenchSpell spell = nextSpell();
+        bh.consume(perks.modifyMagicCost(caster, spell));
+        bh.consume(perks.modifyCooldown(caster, spell));
+    }
+
+    @Benchmark
+    public void tableModifiers(Blackhole bh) {
+        BenchSpell spell = nextSpell();
+        bh.consume(perks.getTable().magicCost(spell, House.VULMERON));
+        bh.consume(perks.getTable().cooldown(spell, House.VULMERON));
+    }
+
+    /** Reload replaces the table, so the first lookup per spell afterwards refills the caster's cache */
+    @Benchmark
+    public void modifiersAfterReload(Blackhole bh) {
+        perks.reload();
+        BenchSpell spell = nextSpell();
+        bh.consume(perks.modifyMagicCost(caster, spell));
+        bh.consume(perks.modifyCooldown(caster, spell));
+    }
+}
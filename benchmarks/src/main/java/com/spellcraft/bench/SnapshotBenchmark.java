@@ -0,0 +1,100 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.api.house.House;
+import com.spellcraft.core.SpellCasterImpl;
+import com.spellcraft.core.SpellManagerImpl;
+import com.spellcraft.core.data.BinaryPlayerStore;
+import com.spellcraft.core.data.PlayerData;
+import com.spellcraft.core.data.PlayerDataManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * {@link PlayerDataManager} save path: capturing a snapshot and resolving it to
+ * {@link PlayerData}, and writing and reading it with the {@link BinaryPlayerStore}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmark {
+
+    @Param({"8", "64"})
+    public int learnedSpells;
+
+    private SpellManagerImpl manager;
+    private SpellCasterImpl caster;
+    private PlayerData data;
+
+    private Path folder;
+    private BinaryPlayerStore store;
+
+    @Setup
+    public void setup() throws IOException {
+        manager = new SpellManagerImpl();
+        List<BenchSpell> spells = Fixtures.registerSpells(manager, learnedSpells, 10, 1_000);
+        caster = Fixtures.caster(manager, Fixtures.perks(), House.AUREVALE, spells);
+        for (int slot = 0; slot < 9 && slot < spells.size(); slot++) {
+            caster.bindSpell(slot, spells.get(slot));
+        }
+
+        data = PlayerDataManager.snapshot(caster, manager);
+
+        folder = Files.createTempDirectory("spellcraft-bench");
+        store = new BinaryPlayerStore(folder.resolve("players.dat").toFile());
+        store.write(caster.getUUID(), data);
+    }
+
+    /** Every write appends a record, compact between iterations so the segment stays small */
+    @TearDown(Level.Iteration)
+    public void compact() throws IOException {
+        store.maintain();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(folder)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public PlayerData snapshot() {
+        return PlayerDataManager.snapshot(caster, manager);
+    }
+
+    @Benchmark
+    public PlayerData binaryWrite() throws IOException {
+        store.write(caster.getUUID(), data);
+        return data;
+    }
+
+    @Benchmark
+    public PlayerData binaryRead() throws IOException {
+        return store.read(caster.getUUID());
+    }
+}
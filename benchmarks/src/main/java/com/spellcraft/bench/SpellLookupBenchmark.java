@@ -0,0 +1,84 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.api.Spell;
+import com.spellcraft.core.SpellManagerImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SpellManagerImpl#getSpell} by exact name, by differently cased name, by id and for
+ * names that are not registered, as typed in commands.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SpellLookupBenchmark {
+
+    @Param({"16", "256"})
+    public int spellCount;
+
+    private SpellManagerImpl manager;
+    private String[] names;
+    private String[] lowerNames;
+    private String[] missing;
+    private int next;
+
+    @Setup
+    public void setup() {
+        manager = new SpellManagerImpl();
+        List<BenchSpell> spells = Fixtures.registerSpells(manager, spellCount, 0, 0);
+
+        names = new String[spellCount];
+        lowerNames = new String[spellCount];
+        missing = new String[spellCount];
+        for (int i = 0; i < spellCount; i++) {
+            // Copy the strings, so lookups cannot take an identity shortcut on the registered name
+            names[i] = new String(spells.get(i).getName());
+            lowerNames[i] = names[i].toLowerCase(Locale.ROOT);
+            missing[i] = "Missing" + i;
+        }
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = next + 1 == spellCount ? 0 : next + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Optional<Spell> byName() {
+        return manager.getSpell(names[nextIndex()]);
+    }
+
+    @Benchmark
+    public Optional<Spell> byNameOtherCase() {
+        return manager.getSpell(lowerNames[nextIndex()]);
+    }
+
+    @Benchmark
+    public Optional<Spell> byId() {
+        return manager.getSpell(nextIndex());
+    }
+
+    @Benchmark
+    public Optional<Spell> notRegistered() {
+        return manager.getSpell(missing[nextIndex()]);
+    }
+}
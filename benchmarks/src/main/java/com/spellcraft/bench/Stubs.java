@@ -0,0 +1,275 @@
+package com.spellcraft.bench;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.BoundingBox;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * In-memory stand-ins for the Bukkit types the benchmarked code touches.
+ * <p>
+ * Stand-ins are dynamic proxies answering only the methods SpellCraft calls on its hot paths;
+ * every other method returns {@code null}, {@code false} or zero. Proxy dispatch adds a small,
+ * constant cost to each call, so results are meant for comparing builds, not for absolute
+ * numbers on a real server.
+ */
+public final class Stubs {
+
+    /** Shared do-nothing stand-ins returned by lenient proxies, by interface */
+    private static final Map<Class<?>, Object> NULL_OBJECTS = new ConcurrentHashMap<>();
+
+    private static volatile int currentTick;
+    private static boolean installed;
+
+    /** Private constructor to prevent instantiation. */
+    private Stubs() {}
+
+    /**
+     * Installs a stand-in {@link Server}, so static {@link Bukkit} calls work without a server.
+     * Calling it again has no effect.
+     */
+    public static synchronized void install() {
+        if (installed) return;
+
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        Logger logger = Logger.getLogger("SpellCraft-Bench");
+        answers.put("getLogger", args -> logger);
+        answers.put("getName", args -> "SpellCraft-Bench");
+        answers.put("getCurrentTick", args -> currentTick);
+        answers.put("isOwnedByCurrentRegion", args -> true);
+        answers.put("isPrimaryThread", args -> true);
+        install(proxy(Server.class, answers));
+    }
+
+    /**
+     * Installs the given server as the {@link Bukkit} singleton.
+     * Only the first server installed in a JVM is kept.
+     */
+    public static synchronized void install(Server server) {
+        if (installed) return;
+        installed = true;
+
+        // Set the field directly, setServer() logs version information the stand-in cannot provide
+        try {
+            Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            if (field.get(null) == null) field.set(null, server);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot install stand-in server", e);
+        }
+    }
+
+    /**
+     * Advances the value returned by {@link Bukkit#getCurrentTick()}, invalidating per-tick caches.
+     */
+    public static void nextTick() {
+        currentTick++;
+    }
+
+    /**
+     * @return a player with the given name and a random {@link UUID}
+     */
+    public static Player player(String name) {
+        UUID uuid = UUID.randomUUID();
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getUniqueId", args -> uuid);
+        answers.put("getName", args -> name);
+        answers.put("isOnline", args -> true);
+        answers.put("isValid", args -> true);
+        return proxy(Player.class, answers);
+    }
+
+    /**
+     * @return block data that only knows its material
+     */
+    public static BlockData blockData(Material material) {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getMaterial", args -> material);
+        return proxy(BlockData.class, answers);
+    }
+
+    /**
+     * A flat world of air holding living entities, stored per chunk column.
+     */
+    public static final class FakeWorld {
+
+        private final UUID uid = UUID.randomUUID();
+        private final Map<Long, List<Entity>> chunks = new HashMap<>();
+        private final Map<Long, Block> blocks = new HashMap<>();
+        private final World world;
+
+        public FakeWorld() {
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getUID", args -> uid);
+            answers.put("getName", args -> "bench");
+            answers.put("getMinHeight", args -> -64);
+            answers.put("getMaxHeight", args -> 320);
+            answers.put("isChunkLoaded", args -> args.length == 2);
+            answers.put("getType", args -> Material.AIR);
+            answers.put("getChunkAt", args -> args.length == 2 ? chunk((int) args[0], (int) args[1]) : null);
+            answers.put("getBlockAt", args -> args.length == 3 ? getBlock((int) args[0], (int) args[1], (int) args[2]) : null);
+            this.world = proxy(World.class, answers);
+        }
+
+        /** @return the Bukkit view of this world */
+        public World getWorld() {
+            return world;
+        }
+
+        /**
+         * Adds a living entity with a player-sized bounding box standing at the given position.
+         */
+        public LivingEntity spawn(double x, double y, double z) {
+            BoundingBox box = new BoundingBox(x - 0.3, y, z - 0.3, x + 0.3, y + 1.8, z + 0.3);
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getBoundingBox", args -> box.clone());
+            answers.put("isValid", args -> true);
+            answers.put("getWorld", args -> world);
+            LivingEntity entity = proxy(LivingEntity.class, answers);
+
+            chunks.computeIfAbsent(key((int) Math.floor(x) >> 4, (int) Math.floor(z) >> 4), k -> new ArrayList<>())
+                    .add(entity);
+            return entity;
+        }
+
+        /**
+         * @return the same block instance for every call with the same coordinates
+         */
+        public Block getBlock(int x, int y, int z) {
+            long key = ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+            return blocks.computeIfAbsent(key, k -> block(x, y, z));
+        }
+
+        private Block block(int x, int y, int z) {
+            BlockData air = blockData(Material.AIR);
+            BlockData[] data = {air};
+
+            Map<String, Function<Object[], Object>> stateAnswers = new HashMap<>();
+            stateAnswers.put("getBlockData", args -> air);
+            stateAnswers.put("update", args -> {
+                data[0] = air;
+                return true;
+            });
+            BlockState state = proxy(BlockState.class, stateAnswers);
+
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getX", args -> x);
+            answers.put("getY", args -> y);
+            answers.put("getZ", args -> z);
+            answers.put("getWorld", args -> world);
+            answers.put("getType", args -> data[0].getMaterial());
+            answers.put("getBlockData", args -> data[0]);
+            answers.put("getState", args -> state);
+            answers.put("setBlockData", args -> {
+                data[0] = (BlockData) args[0];
+                return null;
+            });
+            return proxy(Block.class, answers);
+        }
+
+        private Chunk chunk(int cx, int cz) {
+            Entity[] entities = chunks.getOrDefault(key(cx, cz), List.of()).toArray(Entity[]::new);
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getX", args -> cx);
+            answers.put("getZ", args -> cz);
+            answers.put("getWorld", args -> world);
+            answers.put("getEntities", args -> entities);
+            return proxy(Chunk.class, answers);
+        }
+
+        private static long key(int cx, int cz) {
+            return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+        }
+    }
+
+    /**
+     * Creates a proxy answering the named methods and returning defaults for everything else.
+     * Equality and hashing are by identity, so stand-ins work as map keys.
+     */
+    public static <T> T proxy(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return proxy(type, answers, false);
+    }
+
+    /**
+     * Like {@link #proxy(Class, Map)}, but unanswered methods return empty collections, arrays
+     * and strings, and do-nothing stand-ins for interface types, so code chaining calls on
+     * the result keeps running. Used where whole spells run against stand-ins.
+     */
+    public static <T> T lenientProxy(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return proxy(type, answers, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Map<String, Function<Object[], Object>> answers, boolean lenient) {
+        return (T) Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Object[] arguments = args != null ? args : new Object[0];
+            switch (method.getName()) {
+                case "equals":
+                    if (arguments.length == 1) return proxy == arguments[0];
+                    break;
+                case "hashCode":
+                    if (arguments.length == 0) return System.identityHashCode(proxy);
+                    break;
+                case "toString":
+                    if (arguments.length == 0) return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                    break;
+                default:
+                    break;
+            }
+
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) return answer.apply(arguments);
+
+            Class<?> returnType = method.getReturnType();
+            if (!lenient) return defaultValue(returnType);
+            if (method.getName().equals("clone") && returnType.isInstance(proxy)) return proxy;
+            return lenientValue(returnType);
+        });
+    }
+
+    private static Object lenientValue(Class<?> type) {
+        if (type.isPrimitive()) return defaultValue(type);
+        if (type == String.class) return "";
+        if (type == Optional.class) return Optional.empty();
+        if (type.isArray()) return Array.newInstance(type.getComponentType(), 0);
+        if (type.isAssignableFrom(ArrayList.class)) return new ArrayList<>();
+        if (type.isAssignableFrom(HashSet.class)) return new HashSet<>();
+        if (type.isAssignableFrom(HashMap.class)) return new HashMap<>();
+        if (type.isInterface()) return NULL_OBJECTS.computeIfAbsent(type, t -> lenientProxy(t, Map.of()));
+        return null;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == byte.class) return (byte) 0;
+        if (type == short.class) return (short) 0;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        return 0d;
+    }
+}
@@ -0,0 +1,151 @@
+package com.spellcraft.bench;
+
+import com.spellcraft.util.TempBlock;
+import com.spellcraft.util.TempBlockBatch;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TempBlock} stacks: pushing {@code depth} changes onto one block and reverting them,
+ * in reverse order and out of order, plus {@link TempBlock#revertAll()} over many blocks and
+ * whole-area changes with and without a {@link TempBlockBatch}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TempBlockBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int depth;
+
+    private Block[] blocks;
+    private BlockData[] data;
+    private TempBlock[] stack;
+    private TempBlock[] layers;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Stubs.install();
+        Stubs.FakeWorld world = new Stubs.FakeWorld();
+
+        blocks = new Block[1024];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = world.getBlock(i & 31, 64, i >> 5);
+        }
+
+        Material[] materials = {Material.ICE, Material.STONE, Material.WATER, Material.FIRE};
+        data = new BlockData[materials.length];
+        for (int i = 0; i < materials.length; i++) {
+            data[i] = Stubs.blockData(materials[i]);
+        }
+        stack = new TempBlock[depth];
+        layers = new TempBlock[blocks.length * depth];
+    }
+
+    @TearDown
+    public void tearDown() {
+        TempBlock.revertAll();
+    }
+
+    private Block nextBlock() {
+        Block block = blocks[next];
+        next = (next + 1) & (blocks.length - 1);
+        return block;
+    }
+
+    /** Push then revert newest first, as nested spells on one block usually end */
+    @Benchmark
+    public int pushRevertLifo() {
+        Block block = nextBlock();
+        for (int i = 0; i < depth; i++) {
+            stack[i] = new TempBlock(block, data[i & 3]);
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            stack[i].revert();
+        }
+        return depth;
+    }
+
+    /** Push then revert oldest first, which has to search the stack and restore the next layer */
+    @Benchmark
+    public int pushRevertFifo() {
+        Block block = nextBlock();
+        for (int i = 0; i < depth; i++) {
+            stack[i] = new TempBlock(block, data[i & 3]);
+        }
+        for (int i = 0; i < depth; i++) {
+            stack[i].revert();
+        }
+        return depth;
+    }
+
+    /** Places {@code depth} layers over the whole area and reverts them, writing every change */
+    @Benchmark
+    public int area() {
+        place();
+        revertLayers();
+        return layers.length;
+    }
+
+    /** Same changes as {@link #area()}, each step applied as one batch */
+    @Benchmark
+    public int areaBatched() {
+        try (TempBlockBatch batch = TempBlockBatch.open()) {
+            place();
+        }
+        try (TempBlockBatch batch = TempBlockBatch.open()) {
+            revertLayers();
+        }
+        return layers.length;
+    }
+
+    private void place() {
+        int n = 0;
+        for (int i = 0; i < depth; i++) {
+            for (Block block : blocks) {
+                layers[n++] = new TempBlock(block, data[i & 3]);
+            }
+        }
+    }
+
+    private void revertLayers() {
+        for (int i = layers.length - 1; i >= 0; i--) {
+            layers[i].revert();
+        }
+    }
+
+    /** Places {@code depth} layers on every block and clears them all at once, as on disable */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public int revertAll() {
+        for (Block block : blocks) {
+            for (int i = 0; i < depth; i++) {
+                new TempBlock(block, data[i & 3]);
+            }
+        }
+        TempBlock.revertAll();
+        return blocks.length;
+    }
+}
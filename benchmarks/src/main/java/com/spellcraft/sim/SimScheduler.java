@@ -0,0 +1,142 @@
+package com.spellcraft.sim;
+
+import com.spellcraft.bench.Stubs;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Deterministic stand-in for the Bukkit scheduler, driven one tick at a time by the simulation.
+ * <p>
+ * Tasks run in the order they become due, on the simulation thread. Async tasks run there too,
+ * so a run is reproducible for a given seed; their cost is counted in the tick that runs them.
+ */
+final class SimScheduler {
+
+    private static final Logger LOG = Logger.getLogger("SpellCraft-Sim");
+
+    private final PriorityQueue<Task> queue = new PriorityQueue<>((a, b) -> a.due != b.due
+            ? Long.compare(a.due, b.due)
+            : Long.compare(a.sequence, b.sequence));
+    private final BukkitScheduler bukkit;
+
+    private long tick;
+    private long sequence;
+    private int nextId = 1;
+    private long errors;
+
+    SimScheduler() {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("runTask", args -> schedule(args, false));
+        answers.put("runTaskLater", args -> schedule(args, false));
+        answers.put("runTaskTimer", args -> schedule(args, false));
+        answers.put("runTaskAsynchronously", args -> schedule(args, true));
+        answers.put("runTaskLaterAsynchronously", args -> schedule(args, true));
+        answers.put("runTaskTimerAsynchronously", args -> schedule(args, true));
+        answers.put("cancelTask", args -> {
+            int id = (int) args[0];
+            queue.removeIf(task -> task.id == id);
+            return null;
+        });
+        this.bukkit = Stubs.proxy(BukkitScheduler.class, answers);
+    }
+
+    /** @return the Bukkit view of this scheduler */
+    BukkitScheduler getBukkitScheduler() {
+        return bukkit;
+    }
+
+    /** @return the current tick, starting at 0 */
+    long getTick() {
+        return tick;
+    }
+
+    /** @return the number of tasks waiting to run */
+    int getPendingCount() {
+        return queue.size();
+    }
+
+    /** @return the number of task runs that threw */
+    long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Advances to the next tick and runs every task due by then, including tasks scheduled
+     * for this tick by tasks that ran earlier in it.
+     */
+    void tick() {
+        tick++;
+        Task task;
+        while ((task = queue.peek()) != null && task.due <= tick) {
+            queue.poll();
+            if (task.cancelled) continue;
+
+            try {
+                task.runnable.run();
+            } catch (RuntimeException | Error e) {
+                errors++;
+                LOG.log(Level.WARNING, "Task " + task.id + " threw", e);
+            }
+
+            if (task.period > 0 && !task.cancelled) {
+                task.due = tick + task.period;
+                task.sequence = sequence++;
+                queue.add(task);
+            }
+        }
+    }
+
+    /**
+     * Handles the Runnable overloads: {@code (plugin, runnable[, delay[, period]])}.
+     * A delay below one tick runs on the next tick, as on a server.
+     */
+    private BukkitTask schedule(Object[] args, boolean async) {
+        if (!(args[1] instanceof Runnable runnable)) {
+            throw new UnsupportedOperationException("Only Runnable tasks are simulated");
+        }
+        long delay = args.length > 2 ? (long) args[2] : 0;
+        long period = args.length > 3 ? (long) args[3] : -1;
+
+        Task task = new Task(nextId++, runnable, async, period > 0 ? Math.max(1, period) : -1);
+        task.due = tick + Math.max(1, delay);
+        task.sequence = sequence++;
+        queue.add(task);
+        return task.handle;
+    }
+
+    private final class Task {
+
+        final int id;
+        final Runnable runnable;
+        final long period;
+        final BukkitTask handle;
+
+        long due;
+        long sequence;
+        boolean cancelled;
+
+        Task(int id, Runnable runnable, boolean async, long period) {
+            this.id = id;
+            this.runnable = runnable;
+            this.period = period;
+
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getTaskId", args -> id);
+            answers.put("isSync", args -> !async);
+            answers.put("isCancelled", args -> cancelled);
+            answers.put("cancel", args -> {
+                cancelled = true;
+                queue.remove(this);
+                return null;
+            });
+            this.handle = Stubs.proxy(BukkitTask.class, answers);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.spellcraft.sim;
+
+import com.spellcraft.SpellCraftPlugin;
+import com.spellcraft.bench.Stubs;
+import com.spellcraft.core.SpellManagerImpl;
+import com.spellcraft.core.perks.PerkManager;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * In-process server for the simulation: one {@link SimWorld}, the {@link SimScheduler}, and a
+ * {@link SpellCraftPlugin} instance wired with the real spell manager and perks.
+ * <p>
+ * {@code JavaPlugin} can only be constructed by a server's plugin loader, so the plugin is
+ * allocated without running its constructor and only the fields the cast path reads are set.
+ * Listeners, commands, player storage and the magic bar are not started.
+ */
+final class SimServer {
+
+    private static final Logger LOG = Logger.getLogger("SpellCraft-Sim");
+
+    private final SimScheduler scheduler = new SimScheduler();
+    private final SimWorld world = new SimWorld();
+    private final List<Player> players = new ArrayList<>();
+    private final Map<UUID, Player> playersById = new HashMap<>();
+
+    private final SpellManagerImpl spellManager = new SpellManagerImpl();
+    private final FileConfiguration config;
+    private final PerkManager perks;
+
+    /**
+     * @param configFile a config.yml to use instead of the bundled defaults, may be null
+     */
+    SimServer(File configFile) throws IOException, InvalidConfigurationException {
+        Stubs.install(createServer());
+
+        this.config = configFile != null ? load(configFile) : loadBundled("config.yml");
+        FileConfiguration perksConfig = loadBundled("perks.yml");
+        this.perks = new PerkManager(() -> perksConfig);
+
+        bootPlugin(perksConfig);
+    }
+
+    SimScheduler getScheduler() {
+        return scheduler;
+    }
+
+    SimWorld getWorld() {
+        return world;
+    }
+
+    SpellManagerImpl getSpellManager() {
+        return spellManager;
+    }
+
+    FileConfiguration getConfig() {
+        return config;
+    }
+
+    PerkManager getPerks() {
+        return perks;
+    }
+
+    /**
+     * Adds an online player standing in the world.
+     */
+    Player addPlayer(String name, double x, double z, float yaw) {
+        Player player = world.addPlayer(name, x, z, yaw);
+        players.add(player);
+        playersById.put(player.getUniqueId(), player);
+        return player;
+    }
+
+    /**
+     * Runs one server tick: due tasks first, then entity movement.
+     */
+    void tick() {
+        scheduler.tick();
+        world.tick();
+    }
+
+    private Server createServer() {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getName", args -> "SpellCraft-Sim");
+        answers.put("getVersion", args -> "sim");
+        answers.put("getBukkitVersion", args -> "1.20.1-R0.1-SNAPSHOT");
+        answers.put("getLogger", args -> LOG);
+        answers.put("getScheduler", args -> scheduler.getBukkitScheduler());
+        answers.put("getCurrentTick", args -> (int) scheduler.getTick());
+        answers.put("isPrimaryThread", args -> true);
+        answers.put("isOwnedByCurrentRegion", args -> true);
+        answers.put("getWorlds", args -> List.of(world.getWorld()));
+        answers.put("getWorld", args -> world.getWorld());
+        answers.put("getOnlinePlayers", args -> List.copyOf(players));
+        answers.put("getPlayer", args -> args[0] instanceof UUID id ? playersById.get(id) : null);
+        answers.put("createBlockData", args -> args[0] instanceof Material material
+                ? world.blockData(material)
+                : world.blockData(Material.STONE));
+        return Stubs.lenientProxy(Server.class, answers);
+    }
+
+    private void bootPlugin(FileConfiguration perksConfig) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            SpellCraftPlugin plugin = (SpellCraftPlugin) unsafeClass
+                    .getMethod("allocateInstance", Class.class)
+                    .invoke(unsafe, SpellCraftPlugin.class);
+
+            set(JavaPlugin.class, plugin, "newConfig", config);
+            set(SpellCraftPlugin.class, plugin, "spellManagerImpl", spellManager);
+            set(SpellCraftPlugin.class, plugin, "spellManager", spellManager);
+            set(SpellCraftPlugin.class, plugin, "perkManager", perks);
+            set(SpellCraftPlugin.class, plugin, "perksConfig", perksConfig);
+            SpellCraftPlugin.plugin = plugin;
+            SpellCraftPlugin.log = LOG;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create the simulated plugin instance", e);
+        }
+    }
+
+    private static void set(Class<?> owner, Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = owner.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private static FileConfiguration load(File file) throws IOException, InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.load(file);
+        return config;
+    }
+
+    private static FileConfiguration loadBundled(String name) throws IOException, InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        try (InputStream in = SpellCraftPlugin.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) return config;
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                config.load(reader);
+            }
+        }
+        return config;
+    }
+}
@@ -0,0 +1,379 @@
+package com.spellcraft.sim;
+
+import com.spellcraft.bench.Stubs;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.entity.LightningStrike;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.util.BoundingBox;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Flat in-memory world for the simulation: stone below {@link #GROUND_Y}, air above, and a
+ * list of entities moved by their velocity every tick.
+ * <p>
+ * Every entity lookup is counted, so the report can show how much a spell mix queries the
+ * entity layer.
+ */
+final class SimWorld {
+
+    /** First air layer, players stand on it */
+    static final int GROUND_Y = 64;
+
+    private static final double GRAVITY = 0.04;
+    /** Projectiles and falling blocks are removed after this many ticks, as if they had landed */
+    private static final int MAX_FLIGHT_TICKS = 200;
+
+    private final UUID uid = UUID.randomUUID();
+    private final World world;
+
+    private final List<SimEntity> entities = new ArrayList<>();
+    private final Map<Long, Block> blocks = new HashMap<>();
+    private final Map<Material, BlockData> blockData = new EnumMap<>(Material.class);
+    private int nextEntityId = 1;
+
+    private long entityQueries;
+    private long blockChanges;
+
+    SimWorld() {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getUID", args -> uid);
+        answers.put("getName", args -> "sim");
+        answers.put("getMinHeight", args -> -64);
+        answers.put("getMaxHeight", args -> 320);
+        answers.put("isChunkLoaded", args -> true);
+        answers.put("getType", args -> args.length == 3
+                ? typeAt((int) args[0], (int) args[1], (int) args[2])
+                : typeAt((Location) args[0]));
+        answers.put("getBlockAt", args -> args.length == 3
+                ? getBlock((int) args[0], (int) args[1], (int) args[2])
+                : getBlock((Location) args[0]));
+        answers.put("getChunkAt", args -> args.length == 2 ? chunk((int) args[0], (int) args[1]) : null);
+        answers.put("getEntities", args -> {
+            entityQueries++;
+            return collect(e -> true);
+        });
+        answers.put("getLivingEntities", args -> {
+            entityQueries++;
+            return collect(e -> e.proxy instanceof LivingEntity);
+        });
+        answers.put("getPlayers", args -> collect(e -> e.proxy instanceof Player));
+        answers.put("getNearbyEntities", args -> nearby((Location) args[0], (double) args[1], (double) args[2], (double) args[3]));
+        answers.put("spawn", args -> spawn((Location) args[0], (Class<?>) args[1], args.length > 2 ? args[2] : null));
+        answers.put("spawnFallingBlock", args -> {
+            SimEntity entity = new SimEntity(FallingBlock.class, (Location) args[0]);
+            if (args[1] instanceof BlockData data) entity.blockData = data;
+            return entity.proxy;
+        });
+        answers.put("strikeLightning", args -> new SimEntity(LightningStrike.class, (Location) args[0]).removeAfter(1).proxy);
+        answers.put("strikeLightningEffect", args -> new SimEntity(LightningStrike.class, (Location) args[0]).removeAfter(1).proxy);
+        this.world = Stubs.lenientProxy(World.class, answers);
+    }
+
+    /** @return the Bukkit view of this world */
+    World getWorld() {
+        return world;
+    }
+
+    /** @return entity lookups made so far, including chunk entity reads */
+    long getEntityQueries() {
+        return entityQueries;
+    }
+
+    /** @return block changes made so far */
+    long getBlockChanges() {
+        return blockChanges;
+    }
+
+    /** @return the number of entities, including players */
+    int getEntityCount() {
+        return entities.size();
+    }
+
+    /**
+     * @return block data for a material, shared by all blocks of that material
+     */
+    BlockData blockData(Material material) {
+        return blockData.computeIfAbsent(material, m -> {
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getMaterial", args -> m);
+            answers.put("matches", args -> args[0] instanceof BlockData other && other.getMaterial() == m);
+            return Stubs.lenientProxy(BlockData.class, answers);
+        });
+    }
+
+    /**
+     * Adds a player standing at the given position.
+     */
+    Player addPlayer(String name, double x, double z, float yaw) {
+        Location location = new Location(world, x, GROUND_Y, z, yaw, 0);
+        return (Player) new SimEntity(Player.class, location, name).proxy;
+    }
+
+    /**
+     * Moves every entity by its velocity and removes the ones that landed or expired.
+     */
+    void tick() {
+        Iterator<SimEntity> it = entities.iterator();
+        while (it.hasNext()) {
+            SimEntity entity = it.next();
+            if (!entity.dead) entity.tick();
+            if (entity.dead) it.remove();
+        }
+    }
+
+    private Material typeAt(int x, int y, int z) {
+        Block block = blocks.get(key(x, y, z));
+        if (block != null) return block.getType();
+        return y < GROUND_Y ? Material.STONE : Material.AIR;
+    }
+
+    private Material typeAt(Location location) {
+        return typeAt(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    private Block getBlock(Location location) {
+        return getBlock(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    private Block getBlock(int x, int y, int z) {
+        return blocks.computeIfAbsent(key(x, y, z), k -> newBlock(x, y, z));
+    }
+
+    private Block newBlock(int x, int y, int z) {
+        BlockData original = blockData(y < GROUND_Y ? Material.STONE : Material.AIR);
+        BlockData[] current = {original};
+        Block[] self = new Block[1];
+
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getX", args -> x);
+        answers.put("getY", args -> y);
+        answers.put("getZ", args -> z);
+        answers.put("getWorld", args -> world);
+        answers.put("getLocation", args -> new Location(world, x, y, z));
+        answers.put("getType", args -> current[0].getMaterial());
+        answers.put("isEmpty", args -> current[0].getMaterial().isAir());
+        answers.put("isSolid", args -> current[0].getMaterial().isSolid());
+        answers.put("isPassable", args -> !current[0].getMaterial().isSolid());
+        answers.put("getBlockData", args -> current[0]);
+        answers.put("setBlockData", args -> {
+            current[0] = (BlockData) args[0];
+            blockChanges++;
+            return null;
+        });
+        answers.put("setType", args -> {
+            current[0] = blockData((Material) args[0]);
+            blockChanges++;
+            return null;
+        });
+        answers.put("getRelative", args -> {
+            if (args.length == 3) return getBlock(x + (int) args[0], y + (int) args[1], z + (int) args[2]);
+            BlockFace face = (BlockFace) args[0];
+            int distance = args.length == 2 ? (int) args[1] : 1;
+            return getBlock(x + face.getModX() * distance, y + face.getModY() * distance, z + face.getModZ() * distance);
+        });
+        answers.put("getState", args -> {
+            BlockData saved = current[0];
+            Map<String, Function<Object[], Object>> stateAnswers = new HashMap<>();
+            stateAnswers.put("getBlock", a -> self[0]);
+            stateAnswers.put("getBlockData", a -> saved);
+            stateAnswers.put("getType", a -> saved.getMaterial());
+            stateAnswers.put("getLocation", a -> new Location(world, x, y, z));
+            stateAnswers.put("update", a -> {
+                current[0] = saved;
+                blockChanges++;
+                return true;
+            });
+            return Stubs.lenientProxy(BlockState.class, stateAnswers);
+        });
+        self[0] = Stubs.lenientProxy(Block.class, answers);
+        return self[0];
+    }
+
+    private Chunk chunk(int cx, int cz) {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>();
+        answers.put("getX", args -> cx);
+        answers.put("getZ", args -> cz);
+        answers.put("getWorld", args -> world);
+        answers.put("isLoaded", args -> true);
+        answers.put("getEntities", args -> {
+            entityQueries++;
+            return collect(e -> e.location.getBlockX() >> 4 == cx && e.location.getBlockZ() >> 4 == cz)
+                    .toArray(Entity[]::new);
+        });
+        return Stubs.lenientProxy(Chunk.class, answers);
+    }
+
+    private List<Entity> nearby(Location center, double rx, double ry, double rz) {
+        entityQueries++;
+        List<Entity> found = new ArrayList<>();
+        for (SimEntity entity : entities) {
+            if (entity.dead) continue;
+            if (Math.abs(entity.location.getX() - center.getX()) <= rx
+                    && Math.abs(entity.location.getY() - center.getY()) <= ry
+                    && Math.abs(entity.location.getZ() - center.getZ()) <= rz) {
+                found.add((Entity) entity.proxy);
+            }
+        }
+        return found;
+    }
+
+    /** Lists the live entities accepted by the filter, typed as the caller needs them */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> collect(Predicate<SimEntity> filter) {
+        List<T> found = new ArrayList<>();
+        for (SimEntity entity : entities) {
+            if (!entity.dead && filter.test(entity)) found.add((T) entity.proxy);
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object spawn(Location location, Class<?> type, Object init) {
+        SimEntity entity = new SimEntity(type, location);
+        if (init instanceof Consumer<?> consumer) ((Consumer<Object>) consumer).accept(entity.proxy);
+        return entity.proxy;
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+
+    /**
+     * An entity of any Bukkit entity interface, backed by a position and a velocity.
+     */
+    private final class SimEntity {
+
+        final Object proxy;
+        final boolean moves;
+        final Location location;
+        final Vector velocity = new Vector();
+        BlockData blockData;
+        double health = 20;
+        boolean dead;
+        int age;
+        int removeAfter = -1;
+
+        SimEntity(Class<?> type, Location location) {
+            this(type, location, type.getSimpleName());
+        }
+
+        SimEntity(Class<?> type, Location location, String name) {
+            this.location = location.clone();
+            this.location.setWorld(world);
+            this.moves = Projectile.class.isAssignableFrom(type) || FallingBlock.class.isAssignableFrom(type);
+
+            UUID uuid = UUID.randomUUID();
+            int entityId = nextEntityId++;
+            boolean player = Player.class.isAssignableFrom(type);
+
+            Map<String, Function<Object[], Object>> answers = new HashMap<>();
+            answers.put("getUniqueId", args -> uuid);
+            answers.put("getEntityId", args -> entityId);
+            answers.put("getName", args -> name);
+            answers.put("getWorld", args -> world);
+            answers.put("getLocation", args -> {
+                if (args.length == 1 && args[0] instanceof Location out) {
+                    out.setWorld(world);
+                    out.setX(this.location.getX());
+                    out.setY(this.location.getY());
+                    out.setZ(this.location.getZ());
+                    out.setYaw(this.location.getYaw());
+                    out.setPitch(this.location.getPitch());
+                    return out;
+                }
+                return this.location.clone();
+            });
+            answers.put("getEyeLocation", args -> this.location.clone().add(0, player ? 1.62 : 0.5, 0));
+            answers.put("getEyeHeight", args -> player ? 1.62 : 0.5);
+            answers.put("getBoundingBox", args -> BoundingBox.of(this.location.toVector().add(new Vector(0, 0.9, 0)), 0.3, 0.9, 0.3));
+            answers.put("teleport", args -> {
+                Location to = args[0] instanceof Location target ? target : ((Entity) args[0]).getLocation();
+                this.location.setX(to.getX());
+                this.location.setY(to.getY());
+                this.location.setZ(to.getZ());
+                this.location.setYaw(to.getYaw());
+                this.location.setPitch(to.getPitch());
+                return true;
+            });
+            answers.put("getVelocity", args -> velocity.clone());
+            answers.put("setVelocity", args -> {
+                velocity.copy((Vector) args[0]);
+                return null;
+            });
+            answers.put("getHealth", args -> health);
+            answers.put("getMaxHealth", args -> 20.0);
+            answers.put("setHealth", args -> {
+                health = (double) args[0];
+                return null;
+            });
+            answers.put("damage", args -> {
+                health = Math.max(player ? 1 : 0, health - (double) args[0]);
+                if (health <= 0) dead = true;
+                return null;
+            });
+            answers.put("isValid", args -> !dead);
+            answers.put("isDead", args -> dead);
+            answers.put("isOnline", args -> player);
+            answers.put("isOnGround", args -> this.location.getY() <= GROUND_Y);
+            answers.put("hasPermission", args -> true);
+            answers.put("remove", args -> {
+                dead = true;
+                return null;
+            });
+            answers.put("getBlockData", args -> blockData);
+            answers.put("getNearbyEntities", args -> {
+                List<Entity> found = nearby(this.location, (double) args[0], (double) args[1], (double) args[2]);
+                found.remove(this.proxy);
+                return found;
+            });
+            answers.put("launchProjectile", args -> {
+                SimEntity projectile = new SimEntity((Class<?>) args[0], this.location.clone().add(0, 1.5, 0));
+                Vector direction = args.length > 1 && args[1] instanceof Vector v ? v : this.location.getDirection();
+                projectile.velocity.copy(direction);
+                return projectile.proxy;
+            });
+            this.proxy = Stubs.lenientProxy(type, answers);
+            entities.add(this);
+        }
+
+        SimEntity removeAfter(int ticks) {
+            this.removeAfter = ticks;
+            return this;
+        }
+
+        void tick() {
+            age++;
+            if (removeAfter >= 0 && age > removeAfter) {
+                dead = true;
+                return;
+            }
+            if (!moves) return;
+
+            location.add(velocity);
+            if (FallingBlock.class.isInstance(proxy)) velocity.setY(velocity.getY() - GRAVITY);
+            if (location.getY() < GROUND_Y - 1 || age > MAX_FLIGHT_TICKS) dead = true;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.spellcraft.sim;
+
+import com.spellcraft.api.Spell;
+import com.spellcraft.api.SpellResult;
+import com.spellcraft.api.house.House;
+import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.core.MagicRegen;
+import com.spellcraft.core.SpellCasterImpl;
+import com.spellcraft.core.metrics.LatencyHistogram;
+import com.spellcraft.core.metrics.SpellMetrics;
+import com.spellcraft.spells.AirJets;
+import com.spellcraft.spells.AquaMissile;
+import com.spellcraft.spells.DragonBreathSpell;
+import com.spellcraft.spells.EarthBlock;
+import com.spellcraft.spells.EarthKick;
+import com.spellcraft.spells.FireballSpell;
+import com.spellcraft.spells.Flamethrower;
+import com.spellcraft.spells.GolemSpell;
+import com.spellcraft.spells.HealSpell;
+import com.spellcraft.spells.IceShardSpell;
+import com.spellcraft.spells.LavaDragonSpell;
+import com.spellcraft.spells.LightningSpell;
+import com.spellcraft.spells.MagmaBarrageSpell;
+import com.spellcraft.spells.NatureGraspSpell;
+import com.spellcraft.spells.ShadowTentaclesSpell;
+import com.spellcraft.spells.ShieldSpell;
+import com.spellcraft.spells.TeleportSpell;
+import com.spellcraft.spells.WaterManipulation;
+import com.spellcraft.util.ExpiryWheel;
+import com.spellcraft.util.ParticleBuffer;
+import com.spellcraft.util.TickClock;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Headless load simulation: N scripted casters casting a weighted spell mix for M ticks
+ * against {@link SimServer}, running the real spell manager, casters, spells and scheduling.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -cp target/benchmarks.jar com.spellcraft.sim.Simulation \
+ *     --players 100 --ticks 6000 --warmup 200 --interval 20 --seed 1 \
+ *     --mix Fireball:3,IceShard:2,Lightning:2,EarthBlock:1,Flamethrower:1 [--config config.yml]
+ * </pre>
+ * Casters stand on a grid, turn randomly and try to cast every {@code interval} ticks give or
+ * take a quarter. Casts go straight to {@link SpellCasterImpl#castSpell}, so the listener's
+ * item, permission and house checks are not part of the measurement.
+ */
+public final class Simulation {
+
+    /** Server tick budget at 20 TPS */
+    private static final long TICK_BUDGET_NANOS = 50_000_000L;
+    private static final double GRID_SPACING = 6;
+
+    private static final String DEFAULT_MIX = "Fireball:3,IceShard:2,Lightning:2,EarthBlock:1,Flamethrower:1,AquaMissile:1";
+
+    /** Every built-in spell the plugin registers, constructed against the simulated config */
+    private static final List<Supplier<AbstractSpell>> SPELLS = List.of(
+            FireballSpell::new, HealSpell::new, TeleportSpell::new, LightningSpell::new,
+            ShieldSpell::new, EarthKick::new, EarthBlock::new, Flamethrower::new,
+            AquaMissile::new, AirJets::new, WaterManipulation::new, GolemSpell::new,
+            IceShardSpell::new, DragonBreathSpell::new, MagmaBarrageSpell::new,
+            ShadowTentaclesSpell::new, LavaDragonSpell::new, NatureGraspSpell::new
+    );
+
+    private final int players;
+    private final int ticks;
+    private final int warmup;
+    private final int interval;
+    private final long seed;
+    private final String mix;
+    private final File config;
+
+    private Simulation(Map<String, String> options) {
+        this.players = Integer.parseInt(options.getOrDefault("players", "100"));
+        this.ticks = Integer.parseInt(options.getOrDefault("ticks", "6000"));
+        this.warmup = Integer.parseInt(options.getOrDefault("warmup", "200"));
+        this.interval = Math.max(1, Integer.parseInt(options.getOrDefault("interval", "20")));
+        this.seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        this.mix = options.getOrDefault("mix", DEFAULT_MIX);
+        this.config = options.containsKey("config") ? new File(options.get("config")) : null;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) throw new IllegalArgumentException("Expected --option, got " + args[i]);
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        new Simulation(options).run();
+    }
+
+    private void run() throws Exception {
+        SimServer server = new SimServer(config);
+        TickClock.start();
+        ExpiryWheel.start();
+        ParticleBuffer.load(server.getConfig().getConfigurationSection("spell-casting.particle-effects"));
+        ParticleBuffer.start();
+
+        for (Supplier<AbstractSpell> spell : SPELLS) {
+            try {
+                server.getSpellManager().registerSpell(spell.get());
+            } catch (RuntimeException e) {
+                System.err.println("Skipping a spell that cannot run in the simulation: " + e);
+            }
+        }
+
+        Random random = new Random(seed);
+        Map<Spell, Integer> weights = parseMix(server);
+        Spell[] table = weightTable(weights);
+        List<Script> scripts = createCasters(server, random);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int measured = Math.max(0, ticks - warmup);
+        long[] tickNanos = new long[measured];
+        long[] tickBytes = new long[measured];
+        long[] activeSpells = new long[measured];
+        long[] entityQueries = new long[measured];
+        long[] entities = new long[measured];
+        Map<SpellResult, Long> results = new EnumMap<>(SpellResult.class);
+
+        for (int tick = 1; tick <= ticks; tick++) {
+            long queriesBefore = server.getWorld().getEntityQueries();
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            for (Script script : scripts) {
+                if (script.nextCast > tick) continue;
+
+                Spell spell = table[random.nextInt(table.length)];
+                script.turn(random);
+                SpellResult result = script.caster.castSpell(spell);
+                if (tick > warmup) results.merge(result, 1L, Long::sum);
+                script.nextCast = tick + interval + random.nextInt(interval / 2 + 1) - interval / 4;
+            }
+            server.tick();
+
+            long nanos = System.nanoTime() - start;
+            long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+            if (tick <= warmup) continue;
+
+            int i = tick - warmup - 1;
+            tickNanos[i] = nanos;
+            tickBytes[i] = bytes;
+            activeSpells[i] = server.getSpellManager().getActiveSpells().size();
+            entityQueries[i] = server.getWorld().getEntityQueries() - queriesBefore;
+            entities[i] = server.getWorld().getEntityCount();
+        }
+
+        report(server, weights, results, tickNanos, tickBytes, activeSpells, entityQueries, entities);
+    }
+
+    private Map<Spell, Integer> parseMix(SimServer server) {
+        Map<Spell, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Spell spell = server.getSpellManager().getSpell(parts[0]).orElseThrow(
+                    () -> new IllegalArgumentException("Unknown or unavailable spell in mix: " + parts[0]));
+            weights.merge(spell, parts.length > 1 ? Integer.parseInt(parts[1]) : 1, Integer::sum);
+        }
+        return weights;
+    }
+
+    private static Spell[] weightTable(Map<Spell, Integer> weights) {
+        List<Spell> table = new ArrayList<>();
+        weights.forEach((spell, weight) -> {
+            for (int i = 0; i < weight; i++) table.add(spell);
+        });
+        if (table.isEmpty()) throw new IllegalArgumentException("The spell mix is empty");
+        return table.toArray(Spell[]::new);
+    }
+
+    private List<Script> createCasters(SimServer server, Random random) {
+        House[] houses = {House.VULMERON, House.DRAKMOR, House.AUREVALE, House.NOCTYRA};
+        int side = (int) Math.ceil(Math.sqrt(players));
+        int maxMagic = server.getConfig().getInt("magic.max", 100);
+        MagicRegen regen = MagicRegen.load(server.getConfig().getConfigurationSection("magic"), server.getPerks()::getBonusRegen);
+
+        List<Script> scripts = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            double x = (i % side - side / 2.0) * GRID_SPACING;
+            double z = (i / side - side / 2.0) * GRID_SPACING;
+            Player player = server.addPlayer("Caster" + i, x, z, random.nextFloat() * 360);
+
+            SpellCasterImpl caster = new SpellCasterImpl(player, maxMagic, regen, server.getPerks(), server.getSpellManager());
+            caster.setHouse(houses[i % houses.length]);
+            for (Spell spell : server.getSpellManager().getAllSpells()) {
+                caster.learnSpell(spell);
+            }
+            caster.markReady(true);
+
+            scripts.add(new Script(player, caster, 1 + random.nextInt(interval)));
+        }
+        return scripts;
+    }
+
+    private void report(SimServer server, Map<Spell, Integer> weights, Map<SpellResult, Long> results,
+                        long[] tickNanos, long[] tickBytes, long[] activeSpells, long[] entityQueries, long[] entities) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        StringBuilder mixLine = new StringBuilder();
+        weights.forEach((spell, weight) -> mixLine.append(mixLine.isEmpty() ? "" : ", ")
+                .append(spell.getName()).append(' ').append(weight * 100 / total).append('%'));
+
+        long overBudget = Arrays.stream(tickNanos).filter(n -> n > TICK_BUDGET_NANOS).count();
+
+        System.out.printf(Locale.ROOT, "SpellCraft simulation: %d casters, %d ticks (%d warmup), cast every ~%d ticks, seed %d%n",
+                players, ticks, warmup, interval, seed);
+        System.out.println("Spell mix:      " + mixLine);
+        System.out.printf(Locale.ROOT, "Tick time:      p50 %s  p95 %s  p99 %s  max %s  mean %s  (%d over 50ms)%n",
+                millis(percentile(tickNanos, 50)), millis(percentile(tickNanos, 95)),
+                millis(percentile(tickNanos, 99)), millis(max(tickNanos)), millis(mean(tickNanos)), overBudget);
+        System.out.printf(Locale.ROOT, "Allocation:     p50 %s  p99 %s  max %s  mean %s per tick%n",
+                bytes(percentile(tickBytes, 50)), bytes(percentile(tickBytes, 99)),
+                bytes(max(tickBytes)), bytes(mean(tickBytes)));
+        System.out.printf(Locale.ROOT, "Active spells:  p50 %d  p99 %d  max %d  mean %.1f%n",
+                percentile(activeSpells, 50), percentile(activeSpells, 99), max(activeSpells), meanDouble(activeSpells));
+        System.out.printf(Locale.ROOT, "Entity queries: p50 %d  p99 %d  max %d  mean %.1f per tick%n",
+                percentile(entityQueries, 50), percentile(entityQueries, 99), max(entityQueries), meanDouble(entityQueries));
+        System.out.printf(Locale.ROOT, "Entities:       max %d  mean %.1f%n", max(entities), meanDouble(entities));
+        System.out.println("Cast results:   " + results);
+        System.out.printf(Locale.ROOT, "Tasks:          %d pending at end, %d threw%n",
+                server.getScheduler().getPendingCount(), server.getScheduler().getErrors());
+
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-18s %8s %8s %10s %10s %10s %10s%n",
+                "Spell", "Casts", "Failed", "Cast p50", "Cast p99", "Tick p50", "Tick p99");
+        for (SpellMetrics metrics : server.getSpellManager().getAllMetrics()) {
+            LatencyHistogram cast = metrics.getCastTime();
+            LatencyHistogram progress = metrics.getProgressTime();
+            System.out.printf(Locale.ROOT, "%-18s %8d %8d %10s %10s %10s %10s%n",
+                    metrics.getSpellName(), metrics.getCasts(), metrics.getFailedCasts(),
+                    micros(cast.getPercentileNanos(50)), micros(cast.getPercentileNanos(99)),
+                    micros(progress.getPercentileNanos(50)), micros(progress.getPercentileNanos(99)));
+        }
+    }
+
+    private static long percentile(long[] values, double percentile) {
+        if (values.length == 0) return 0;
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static long max(long[] values) {
+        return Arrays.stream(values).max().orElse(0);
+    }
+
+    private static long mean(long[] values) {
+        return values.length == 0 ? 0 : Arrays.stream(values).sum() / values.length;
+    }
+
+    private static double meanDouble(long[] values) {
+        return Arrays.stream(values).average().orElse(0);
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000.0);
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+    }
+
+    private static String bytes(long bytes) {
+        return bytes >= 1024 * 1024
+                ? String.format(Locale.ROOT, "%.1fMB", bytes / (1024.0 * 1024.0))
+                : String.format(Locale.ROOT, "%.1fKB", bytes / 1024.0);
+    }
+
+    /** One scripted caster */
+    private static final class Script {
+
+        final Player player;
+        final SpellCasterImpl caster;
+        long nextCast;
+
+        Script(Player player, SpellCasterImpl caster, long nextCast) {
+            this.player = player;
+            this.caster = caster;
+            this.nextCast = nextCast;
+        }
+
+        /** Faces a new random direction, slightly up or down, before casting */
+        void turn(Random random) {
+            Location location = player.getLocation();
+            location.setYaw(random.nextFloat() * 360);
+            location.setPitch(random.nextFloat() * 30 - 15);
+            player.teleport(location);
+        }
+    }
+}
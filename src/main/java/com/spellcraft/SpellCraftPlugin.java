@@ -3,7 +3,6 @@ package com.spellcraft;
 import com.cjcrafter.foliascheduler.FoliaCompatibility;
 import com.cjcrafter.foliascheduler.ServerImplementation;
 import com.spellcraft.api.Spell;
-import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellManager;
 import com.spellcraft.commands.HouseCommand;
 import com.spellcraft.commands.SpellBindCommand;
@@ -22,6 +21,9 @@ import com.spellcraft.listeners.SpellBookListener;
 import com.spellcraft.listeners.SpellCastListener;
 import com.spellcraft.spells.*;
 import com.spellcraft.ui.MagicBar;
+import com.spellcraft.util.ExpiryWheel;
+import com.spellcraft.util.ParticleBuffer;
+import com.spellcraft.util.TickClock;
 import com.spellcraft.util.ThreadUtil;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import org.bukkit.Bukkit;
@@ -33,9 +35,13 @@ import org.bukkit.inventory.ShapelessRecipe;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Objects;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static com.cjcrafter.foliascheduler.util.ServerVersions.isFolia;
+
 /**
  * Main plugin class for SpellCraft.
  * <p>
@@ -86,6 +92,10 @@ public class SpellCraftPlugin extends JavaPlugin {
         scheduler = new FoliaCompatibility(plugin).getServerImplementation();
         log = getLogger();
 
+        // Start the shared tick clock used for cooldowns, and the timed cleanup driven by it
+        TickClock.start();
+        ExpiryWheel.start();
+
         // Save default configs and load perks
         saveDefaultConfig();
         saveResource("perks.yml", false);
@@ -106,12 +116,22 @@ public class SpellCraftPlugin extends JavaPlugin {
         registerSpells();
 
         // Load player data
-        playerDataManager = new PlayerDataManager(this);
+        try {
+            playerDataManager = new PlayerDataManager(this);
+        } catch (IOException e) {
+            getLogger().log(Level.SEVERE, "Failed to open player data storage, disabling SpellCraft", e);
+            Bukkit.getPluginManager().disablePlugin(this);
+            return;
+        }
 
         // Start magic bar UI
         magicBar = new MagicBar(this, casterManager);
         magicBar.start();
 
+        // Start batched particle output
+        ParticleBuffer.load(getConfig().getConfigurationSection("spell-casting.particle-effects"));
+        ParticleBuffer.start();
+
         // Initialize optional hooks
         if (Bukkit.getPluginManager().getPlugin("WorldEdit") != null) {
             WGHook.init();
@@ -126,8 +146,7 @@ public class SpellCraftPlugin extends JavaPlugin {
 
         // Safely load online players (for /reload support)
         Bukkit.getOnlinePlayers().forEach(player -> {
-            SpellCaster caster = playerDataManager.load(player);
-            casterManager.registerCaster(player.getUniqueId(), caster);
+            casterManager.getCaster(player);
             magicBar.showForPlayer(player);
         });
 
@@ -149,6 +168,10 @@ public class SpellCraftPlugin extends JavaPlugin {
             magicBar.stop();
         }
 
+        ParticleBuffer.stop();
+        ExpiryWheel.stop();
+        TickClock.stop();
+
         // Unregister spells asynchronously
         if (spellManager != null) {
             spellManager.getSpellMap().forEach((s, spell) -> spellManager.unregisterSpellAsync(spell));
@@ -156,11 +179,16 @@ public class SpellCraftPlugin extends JavaPlugin {
         }
 
         // Save and clear player casters
-        if (casterManager != null) {
-            casterManager.saveAll();
+        if (casterManager != null && playerDataManager != null) {
+            casterManager.saveAllNow();
             casterManager.clearCasters();
         }
 
+        // Flush queued saves and close the player store
+        if (playerDataManager != null) {
+            playerDataManager.shutdown();
+        }
+
         // Shutdown any background tasks
         ThreadUtil.shutdown();
 
@@ -172,6 +200,7 @@ public class SpellCraftPlugin extends JavaPlugin {
      */
     public void reloadPerksConfig() {
         loadPerksConfig();
+        if (perkManager != null) perkManager.reload();
         getLogger().info("Perks config reloaded.");
     }
 
@@ -258,6 +287,12 @@ public void registerSpells() {
         getServer().getPluginManager().registerEvents(
                 new SpellBookListener(this, casterManager, spellManager, spellBookKey), this
         );
+        // Particle viewers are read off their own thread only on Folia
+        if (isFolia()) {
+            getServer().getPluginManager().registerEvents(
+                    new ParticleBuffer.ViewerTracker(), this
+            );
+        }
     }
 
     /** Registers all plugin commands and their tab completers */
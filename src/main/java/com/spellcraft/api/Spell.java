@@ -95,4 +95,23 @@ public interface Spell {
      * @return this Spell's location as a {@link Location}.
      */
    @NotNull Location getLocation();
+
+    /**
+     * Creates the object that holds the state of a single cast of this Spell.
+     * Spells without per-cast state can keep the default, which returns this Spell.
+     * @return a new per-cast instance of this Spell.
+     */
+    default Spell createInstance() {
+        return this;
+    }
+
+    /**
+     * Dense numeric id assigned by the {@link SpellManager} on registration.
+     * Ids start at 0 and stay the same for a spell name until the server stops,
+     * they are not meant to be stored.
+     * @return this Spell's id, or -1 if it was not registered or does not support ids.
+     */
+    default int getId() {
+        return -1;
+    }
 }
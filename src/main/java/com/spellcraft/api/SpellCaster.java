@@ -208,4 +208,13 @@ public interface SpellCaster {
     default int getMagicPower() {
         return getMaxMagic();
     }
+
+    /**
+     * @return true once this SpellCaster's saved data has been loaded.
+     * <p>
+     * Until then the caster cannot cast spells and is not saved.
+     */
+    default boolean isReady() {
+        return true;
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.spellcraft.api;
 
+import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.core.metrics.SpellMetrics;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -50,6 +53,23 @@ public interface SpellManager {
      */
     Optional<Spell> getSpell(String name);
 
+    /**
+     * Retrieves a registered {@link Spell} by its {@link Spell#getId() id}.
+     *
+     * @param id the id of the {@link Spell}.
+     * @return an {@link Optional} containing the {@link Spell} if found.
+     */
+    Optional<Spell> getSpell(int id);
+
+    /**
+     * Gets the id of a registered {@link Spell}, also for spells whose
+     * {@link Spell#getId()} does not support ids.
+     *
+     * @param spell the {@link Spell} to look up.
+     * @return the id, or -1 if the spell is not registered.
+     */
+    int getSpellId(Spell spell);
+
     /**
      * @return a {@link Collection} of all registered {@link Spell}s.
      */
@@ -83,6 +103,22 @@ public interface SpellManager {
      */
     CompletableFuture<Collection<Spell>> getSpellsByCategoryAsync(SpellCategory category);
 
+    /**
+     * Retrieves all {@link Spell}s of a specific {@link MagicElement}.
+     *
+     * @param element the {@link MagicElement} to filter by.
+     * @return a {@link Collection} of matching {@link Spell}s.
+     */
+    Collection<Spell> getSpellsByElement(MagicElement element);
+
+    /**
+     * Completes a partially typed spell name, ignoring case.
+     *
+     * @param prefix the typed prefix.
+     * @return the names of matching {@link Spell}s, sorted.
+     */
+    List<String> completeSpellName(String prefix);
+
     /**
      * Checks whether a {@link Spell} is registered by name.
      *
@@ -128,4 +164,18 @@ public interface SpellManager {
      * @return a {@link Set} of currently active {@link AbstractSpell}s.
      */
     Set<AbstractSpell> getActiveSpells();
+
+    /**
+     * Retrieves the performance metrics of a {@link Spell}: cast and progress times,
+     * active instances and cast rate.
+     *
+     * @param spell the {@link Spell}.
+     * @return the metrics, created empty if the spell was never used.
+     */
+    SpellMetrics getMetrics(Spell spell);
+
+    /**
+     * @return the metrics of every spell that was used, most total time first.
+     */
+    List<SpellMetrics> getAllMetrics();
 }
@@ -26,7 +26,10 @@ public enum SpellResult {
     INVALID_TARGET("Invalid target for this spell"),
 
     /** The spell cast was cancelled by an external source. */
-    CANCELLED("Spell cast was cancelled");
+    CANCELLED("Spell cast was cancelled"),
+
+    /** The caster's data is still loading. */
+    NOT_READY("Player data is still loading");
 
     private final String message;
 
@@ -75,6 +78,9 @@ public enum SpellResult {
         if (message.equalsIgnoreCase("INSUFFICIENT_MAGIC")) {
             return SpellResult.INSUFFICIENT_MAGIC;
         }
+        if (message.equalsIgnoreCase("NOT_READY")) {
+            return SpellResult.NOT_READY;
+        }
         if (message.equalsIgnoreCase("FAILURE")) {
             return SpellResult.FAILURE;
         }
@@ -72,7 +72,7 @@ public class SpellBindCommand implements CommandExecutor, TabCompleter {
 
         if (args[1].equalsIgnoreCase("clear")) {
             caster.unbindSpell(slot);
-            plugin.getPlayerDataManager().save(caster);
+            plugin.getPlayerDataManager().saveAsync(caster);
 
             SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("Cleared spell from slot " + (slot + 1))
                     .color(NamedTextColor.GREEN));
@@ -116,7 +116,7 @@ public class SpellBindCommand implements CommandExecutor, TabCompleter {
         }
 
         caster.bindSpell(slot, spell);
-        plugin.getPlayerDataManager().save(caster);
+        plugin.getPlayerDataManager().saveAsync(caster);
 
         TextColor elementColor = spell.getElement().getColor();
 
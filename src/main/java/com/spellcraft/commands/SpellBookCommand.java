@@ -123,10 +123,7 @@ public class SpellBookCommand implements CommandExecutor, TabCompleter {
         }
 
         if (args.length >= 3) {
-            return spellManager.getAllSpells().stream()
-                .map(Spell::getName)
-                .filter(s -> s.toLowerCase().startsWith(args[args.length - 1].toLowerCase()))
-                .collect(Collectors.toList());
+            return new ArrayList<>(spellManager.completeSpellName(args[args.length - 1]));
         }
 
         return new ArrayList<>();
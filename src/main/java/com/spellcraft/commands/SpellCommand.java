@@ -8,7 +8,11 @@ import com.spellcraft.api.SpellManager;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.SpellCasterManager;
 import com.spellcraft.core.SpellManagerImpl;
+import com.spellcraft.core.metrics.LatencyHistogram;
+import com.spellcraft.core.metrics.SpellMetrics;
 import com.spellcraft.ui.MagicBar;
+import com.spellcraft.util.ParticleBuffer;
+import com.spellcraft.util.TaskStats;
 import com.spellcraft.util.ThreadUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -26,6 +30,9 @@ import java.util.stream.Collectors;
 
 public class SpellCommand implements CommandExecutor, TabCompleter {
 
+    /** Maximum number of rows shown by the debug listings */
+    private static final int DEBUG_ROWS = 10;
+
     private final SpellManager spellManager;
     private final SpellCasterManager casterManager;
     private final SpellCraftPlugin plugin;
@@ -62,6 +69,7 @@ public class SpellCommand implements CommandExecutor, TabCompleter {
             case "learned" -> listLearnedSpells(player);
             case "bound" -> listBoundSpells(player);
             case "reload" -> reloadSpellCraft(player);
+            case "debug" -> debug(player, args);
             case "display" -> {
                 if (args.length < 2) {
                     SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("Usage: /spell display <elementName>"));
@@ -89,11 +97,14 @@ public class SpellCommand implements CommandExecutor, TabCompleter {
 
         plugin.reloadConfig();
         plugin.reloadPerksConfig();
+        casterManager.reloadRegen();
 
 
         plugin.getMagicBar().stop();
         plugin.getMagicBar().start();
 
+        ParticleBuffer.load(plugin.getConfig().getConfigurationSection("spell-casting.particle-effects"));
+
         plugin.registerSpells();
 
         plugin.getServer().getOnlinePlayers()
@@ -112,9 +123,102 @@ public class SpellCommand implements CommandExecutor, TabCompleter {
         SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("/spell learned", NamedTextColor.YELLOW).append(Component.text(" - Learned spells", NamedTextColor.GRAY)));
         SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("/spell bound", NamedTextColor.YELLOW).append(Component.text(" - Bound spells", NamedTextColor.GRAY)));
         SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("/spell reload", NamedTextColor.YELLOW).append(Component.text(" - Reload config", NamedTextColor.GRAY)));
+        if (player.hasPermission("spellcraft.admin.debug")) {
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("/spell debug <tasks|spells>", NamedTextColor.YELLOW).append(Component.text(" - Performance statistics", NamedTextColor.GRAY)));
+        }
+    }
+
+
+
+    private void debug(Player player, String[] args) {
+        if (!player.hasPermission("spellcraft.admin.debug")) {
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("You don't have permission to do that!", NamedTextColor.RED));
+            return;
+        }
+
+        String section = args.length > 1 ? args[1].toLowerCase() : "";
+        boolean reset = args.length > 2 && args[2].equalsIgnoreCase("reset");
+
+        switch (section) {
+            case "tasks" -> {
+                if (reset) {
+                    TaskStats.resetAll();
+                    SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("Task statistics reset.", NamedTextColor.GREEN));
+                    return;
+                }
+                showTaskStats(player);
+            }
+            case "spells" -> {
+                if (reset) {
+                    plugin.getSpellManagerImpl().getMetricsRegistry().reset();
+                    SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("Spell metrics reset.", NamedTextColor.GREEN));
+                    return;
+                }
+                showSpellMetrics(player);
+            }
+            default -> SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("Usage: /spell debug <tasks|spells> [reset]", NamedTextColor.RED));
+        }
     }
 
+    private void showTaskStats(Player player) {
+        List<TaskStats> stats = TaskStats.getAll();
+
+        SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text(
+                "=== Scheduled Tasks (" + ThreadUtil.getRegisteredTaskCount() + " registered) ===", NamedTextColor.GOLD));
 
+        if (stats.isEmpty()) {
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("No tasks have run yet.", NamedTextColor.GRAY));
+            return;
+        }
+
+        for (TaskStats task : stats.subList(0, Math.min(DEBUG_ROWS, stats.size()))) {
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(
+                    Component.text(task.getLabel(), NamedTextColor.AQUA)
+                            .append(Component.text(String.format(" %d runs, %.1f ms total, %.1f µs avg, %.2f ms max",
+                                    task.getCalls(),
+                                    task.getTotalNanos() / 1_000_000.0,
+                                    task.getAverageNanos() / 1_000.0,
+                                    task.getMaxNanos() / 1_000_000.0), NamedTextColor.GRAY))
+                            .append(task.getErrors() > 0
+                                    ? Component.text(", " + task.getErrors() + " errors", NamedTextColor.RED)
+                                    : Component.empty())
+            );
+        }
+    }
+
+    private void showSpellMetrics(Player player) {
+        List<SpellMetrics> metrics = spellManager.getAllMetrics();
+
+        SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("=== Spell Metrics ===", NamedTextColor.GOLD));
+
+        if (metrics.isEmpty()) {
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(Component.text("No spells have been cast yet.", NamedTextColor.GRAY));
+            return;
+        }
+
+        for (SpellMetrics spell : metrics.subList(0, Math.min(DEBUG_ROWS, metrics.size()))) {
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(
+                    Component.text(spell.getSpellName(), NamedTextColor.AQUA)
+                            .append(Component.text(String.format(" %d casts (%.1f/s), %d active",
+                                    spell.getCasts(), spell.getCastsPerSecond(), spell.getActiveInstances()), NamedTextColor.GRAY))
+            );
+            SpellCraftPlugin.getAdventure().player(player).sendMessage(
+                    Component.text("  cast ", NamedTextColor.YELLOW)
+                            .append(Component.text(formatLatency(spell.getCastTime()), NamedTextColor.GRAY))
+                            .append(Component.text(" | tick ", NamedTextColor.YELLOW))
+                            .append(Component.text(formatLatency(spell.getProgressTime()), NamedTextColor.GRAY))
+            );
+        }
+    }
+
+    /** Formats the median, 99th percentile and maximum of a histogram in microseconds */
+    private static String formatLatency(LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) return "-";
+        return String.format("p50 %.0fµs, p99 %.0fµs, max %.0fµs",
+                histogram.getPercentileNanos(50) / 1_000.0,
+                histogram.getPercentileNanos(99) / 1_000.0,
+                histogram.getMaxNanos() / 1_000.0);
+    }
 
     private void listSpells(Player player, String[] args) {
         List<Spell> spells;
@@ -200,7 +304,7 @@ public class SpellCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
-            return List.of("list", "help", "learned", "bound", "reload", "display")
+            return List.of("list", "help", "learned", "bound", "reload", "display", "debug")
                     .stream()
                     .filter(s -> s.startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
@@ -214,12 +318,19 @@ public class SpellCommand implements CommandExecutor, TabCompleter {
         }
 
         if (args.length == 2 && args[0].equalsIgnoreCase("help")) {
-            return spellManager.getAllSpells().stream()
-                    .map(Spell::getName)
-                    .filter(s -> s.toLowerCase().startsWith(args[1].toLowerCase()))
+            return new ArrayList<>(spellManager.completeSpellName(args[1]));
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("debug")) {
+            return List.of("tasks", "spells").stream()
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
                     .collect(Collectors.toList());
         }
 
+        if (args.length == 3 && args[0].equalsIgnoreCase("debug")) {
+            return "reset".startsWith(args[2].toLowerCase()) ? List.of("reset") : List.of();
+        }
+
         if (args.length == 2 && args[0].equalsIgnoreCase("display")) {
             return MagicElement.values().values().stream()
                     .map(MagicElement::getName)
@@ -5,8 +5,10 @@ import com.spellcraft.api.Spell;
 import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
+import com.spellcraft.util.TaskScope;
 import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -15,6 +17,11 @@ import org.jetbrains.annotations.Nullable;
  * Handles shared spell lifecycle logic such as casting, tracking,
  * cooldowns, and cleanup. Concrete spells should extend this class
  * and implement the abstract hooks.
+ * <p>
+ * The object registered with the spell manager is the spell's definition:
+ * it holds config-backed values and is never mutated by a cast. Every
+ * successful cast runs on a fresh instance obtained from
+ * {@link #createInstance()}, which carries the state of that cast only.
  */
 public abstract class AbstractSpell implements Spell {
 
@@ -26,11 +33,15 @@ public abstract class AbstractSpell implements Spell {
     protected final @Nullable Double range;
     protected final @Nullable String instructions;
     protected @Nullable Location location;
+    private final @Nullable AbstractSpell definition;
+    private volatile int id = -1;
 
     protected boolean enabled;
     protected boolean removed;
     protected long startTime;
-    private ThreadUtil.ThreadTask progressTask;
+
+    /** Owns the tasks of this cast, closed when it is removed or its caster leaves */
+    private @Nullable TaskScope tasks;
 
     /**
      * Creates a new base spell instance with the given metadata.
@@ -62,6 +73,24 @@ public abstract class AbstractSpell implements Spell {
         this.range = range;
         this.enabled = enabled;
         this.instructions = instructions;
+        this.definition = null;
+    }
+
+    /**
+     * Creates a per-cast instance sharing the metadata of the given definition.
+     *
+     * @param definition The registered spell this instance is cast from
+     */
+    protected AbstractSpell(@NotNull AbstractSpell definition) {
+        this.name = definition.name;
+        this.description = definition.description;
+        this.category = definition.category;
+        this.magicCost = definition.magicCost;
+        this.cooldown = definition.cooldown;
+        this.range = definition.range;
+        this.enabled = definition.enabled;
+        this.instructions = definition.instructions;
+        this.definition = definition;
     }
 
     @Override
@@ -69,6 +98,18 @@ public abstract class AbstractSpell implements Spell {
         return name;
     }
 
+    @Override
+    public int getId() {
+        return definition != null ? definition.id : id;
+    }
+
+    /**
+     * Called by the spell manager when this definition is registered.
+     */
+    void assignId(int id) {
+        this.id = id;
+    }
+
     @Override
     public @Nullable String getDescription() {
         return description;
@@ -84,17 +125,6 @@ public abstract class AbstractSpell implements Spell {
         return magicCost;
     }
 
-    /**
-     * Assigns the task responsible for calling {@link #progress()}.
-     * <p>
-     * This task is cancelled automatically when the spell is removed.
-     *
-     * @param task The thread-safe task controlling spell progression
-     */
-    public void setProgressTask(ThreadUtil.ThreadTask task) {
-        this.progressTask = task;
-    }
-
     @Override
     public @Nullable Long getCooldown() {
         return cooldown;
@@ -133,24 +163,53 @@ public abstract class AbstractSpell implements Spell {
         return caster.getPlayer().hasPermission(getPermission());
     }
 
+    /**
+     * Returns the registered spell this object was created from.
+     *
+     * @return The definition, or this spell if it is the definition itself
+     */
+    public @NotNull AbstractSpell getDefinition() {
+        return definition != null ? definition : this;
+    }
+
+    /**
+     * Creates a fresh instance holding the state of a single cast.
+     * <p>
+     * Implementations should use the {@link #AbstractSpell(AbstractSpell)}
+     * constructor and copy their config-backed values from this definition.
+     *
+     * @return A new, not yet executed spell instance
+     */
+    @Override
+    public abstract @NotNull AbstractSpell createInstance();
+
     @Override
     public SpellResult cast(SpellCaster caster) {
+        if (definition != null) return definition.cast(caster);
+
         if (!enabled) return SpellResult.FAILURE;
         if (!caster.hasMagic(magicCost)) return SpellResult.INSUFFICIENT_MAGIC;
         if (caster.isOnCooldown(this)) return SpellResult.ON_COOLDOWN;
         if (!caster.getPlayer().hasPermission(getPermission())) return SpellResult.NO_PERMISSION;
 
-        startTime = System.currentTimeMillis();
-        removed = false;
+        AbstractSpell instance = createInstance();
+        instance.startTime = System.currentTimeMillis();
+        instance.tasks = caster instanceof SpellCasterImpl impl
+                ? impl.getSession().child(name)
+                : new TaskScope(String.valueOf(name));
 
-        SpellResult result = execute(caster);
+        SpellResult result = instance.execute(caster);
 
         if (result.isSuccess()) {
             caster.consumeMagic(magicCost);
             caster.setCooldown(this, cooldown);
             SpellCraftPlugin.getInstance()
                     .getSpellManagerImpl()
-                    .track(this);
+                    .track(instance);
+            instance.tasks.onClose(instance::removeOnOwnerThread);
+        } else {
+            // Cancel anything a failed cast scheduled
+            instance.tasks.close();
         }
 
         return result;
@@ -159,7 +218,7 @@ public abstract class AbstractSpell implements Spell {
     /**
      * Executes the core logic of the spell.
      * <p>
-     * This method is called once when the spell is successfully cast.
+     * This method is called once on a fresh instance for every cast.
      *
      * @param caster The caster performing the spell
      * @return The result of the spell execution
@@ -167,23 +226,53 @@ public abstract class AbstractSpell implements Spell {
     protected abstract SpellResult execute(SpellCaster caster);
 
     /**
-     * Called repeatedly while the spell is active.
+     * Called once per tick by the {@link SpellTickEngine} while the spell is active.
      * <p>
      * Used for ongoing effects such as movement, checks, or animations.
+     * Spells with nothing left to do should call {@link #remove()}.
      */
     public abstract void progress();
 
     /**
      * Removes the spell and performs cleanup.
      * <p>
-     * Cancels the progress task and invokes {@link #onStop()} once.
+     * Invokes {@link #onStop()} once. The tick engine drops the spell
+     * on its next pass.
      */
     public void remove() {
         if (removed) return;
         removed = true;
 
-        if (progressTask != null) progressTask.cancel();
         onStop();
+        if (tasks != null) tasks.close();
+    }
+
+    /**
+     * Scope owning the tasks of this cast. Attach anything scheduled on behalf of the cast
+     * with {@link ThreadUtil.ThreadTask#ownedBy(TaskScope)} so it stops with the spell.
+     * <p>
+     * Only available on cast instances, a closed scope is returned for definitions.
+     *
+     * @return the cast's task scope
+     */
+    protected @NotNull TaskScope getTasks() {
+        if (tasks == null) {
+            tasks = new TaskScope(String.valueOf(name));
+            tasks.close();
+        }
+        return tasks;
+    }
+
+    /** Removes the spell from the thread owning its location, used when the caster leaves */
+    private void removeOnOwnerThread() {
+        if (removed) return;
+
+        Location at = getLocation();
+        if (at == null || at.getWorld() == null) {
+            remove();
+            return;
+        }
+        ThreadUtil.ensureLocation(at, this::remove);
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.spellcraft.core;
+
+import com.spellcraft.api.SpellCaster;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Passive magic regeneration rate of a caster.
+ * <p>
+ * Casters gain {@code amount} plus their {@code bonus} every {@code intervalTicks},
+ * derived from {@link com.spellcraft.util.TickClock} when their magic is read.
+ *
+ * @param amount        magic regenerated every interval
+ * @param intervalTicks ticks between regeneration steps, at least 1
+ * @param bonus         extra magic per step for a caster, e.g. from house perks
+ */
+public record MagicRegen(int amount, long intervalTicks, ToIntFunction<SpellCaster> bonus) {
+
+    public MagicRegen {
+        intervalTicks = Math.max(1, intervalTicks);
+    }
+
+    /**
+     * Reads the rate from the {@code magic} config section.
+     *
+     * @param section the {@code magic} section, may be null for defaults
+     * @param bonus   extra magic per step for a caster
+     */
+    public static MagicRegen load(ConfigurationSection section, ToIntFunction<SpellCaster> bonus) {
+        if (section == null) return new MagicRegen(2, 40, bonus);
+        return new MagicRegen(
+                section.getInt("regen-amount", 2),
+                section.getLong("regen-interval", 40),
+                bonus
+        );
+    }
+
+    /**
+     * @return the magic a caster regenerates every interval, including its bonus
+     */
+    public int amountFor(SpellCaster caster) {
+        return amount + bonus.applyAsInt(caster);
+    }
+}
@@ -2,15 +2,24 @@ package com.spellcraft.core;
 
 import com.spellcraft.api.*;
 import com.spellcraft.api.event.SpellCastEvent;
+import com.spellcraft.api.event.SpellEvent;
 import com.spellcraft.api.event.SpellFailEvent;
 import com.spellcraft.api.event.SpellPreCastEvent;
 import com.spellcraft.api.house.House;
+import com.spellcraft.core.jfr.CastEvent;
+import com.spellcraft.core.perks.PerkManager;
+import com.spellcraft.core.perks.PerkTable;
+import com.spellcraft.util.EventGateway;
 import com.spellcraft.util.HouseUtil;
+import com.spellcraft.util.TaskScope;
+import com.spellcraft.util.TickClock;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementation of SpellCaster interface.
@@ -18,23 +27,132 @@ import java.util.*;
  */
 public class SpellCasterImpl implements SpellCaster {
 
+    /** All spell events share the {@link SpellEvent} handler list */
+    private static final EventGateway SPELL_EVENTS = EventGateway.of(SpellEvent.getHandlerList());
+
     private final UUID uuid;
     private final Player player;
-
-    private int magic;
+    private final SpellManager registry;
+
+    /**
+     * Magic is derived rather than ticked: {@code baseMagic} was the amount at
+     * {@code baseTick}, and every regen interval since then adds {@code regenPerStep}.
+     */
+    private int baseMagic;
+    private long baseTick;
     private int maxMagic;
 
-    private final Set<Spell> learnedSpells = new HashSet<>();
+    private MagicRegen regen;
+    /** Regen per interval including the perk bonus, refreshed when the house or rate changes */
+    private int regenPerStep;
+
+    /** Learned spells by {@link Spell#getId() id} */
+    private final BitSet learnedSpells = new BitSet();
     private final Spell[] boundSpells = new Spell[9];
-    private final Map<Spell, Long> cooldowns = new HashMap<>();
+    /** Cooldown deadlines in {@link TickClock} ticks by spell id, grown on demand */
+    private long[] cooldowns = new long[0];
 
     private House house;
 
-    public SpellCasterImpl(Player player, int maxMagic) {
+    private final PerkManager perks;
+    /** Perk-adjusted costs and cooldowns by spell id, each valid while {@code perkSpells[id]} is that spell */
+    private Spell[] perkSpells = new Spell[0];
+    private int[] perkCosts = new int[0];
+    private long[] perkCooldowns = new long[0];
+    /** Table the cached values were computed from, null after a house change */
+    private PerkTable perkTable;
+
+    /** Fields changed since the last save, see the {@code DIRTY_} flags */
+    public static final int DIRTY_MAGIC = 1;
+    public static final int DIRTY_HOUSE = 1 << 1;
+    public static final int DIRTY_LEARNED = 1 << 2;
+    public static final int DIRTY_BINDS = 1 << 3;
+    public static final int DIRTY_ALL = DIRTY_MAGIC | DIRTY_HOUSE | DIRTY_LEARNED | DIRTY_BINDS;
+
+    private volatile boolean ready;
+
+    /** Owns tasks scheduled for this player, closed when they leave */
+    private final TaskScope session;
+
+    private final AtomicInteger dirtyFields = new AtomicInteger();
+    private final AtomicLong version = new AtomicLong();
+    private volatile long savedVersion;
+
+    public SpellCasterImpl(Player player, int maxMagic, MagicRegen regen, PerkManager perks, SpellManager registry) {
         this.uuid = player.getUniqueId();
         this.player = player;
+        this.registry = registry;
+        this.perks = perks;
+        this.session = new TaskScope("Session: " + player.getName());
         this.maxMagic = maxMagic;
-        this.magic = maxMagic;
+        this.baseMagic = maxMagic;
+        this.baseTick = TickClock.now();
+        this.regen = regen;
+        this.regenPerStep = regen.amountFor(this);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * @return the scope owning tasks and casts of this player's current session
+     */
+    public TaskScope getSession() {
+        return session;
+    }
+
+    /**
+     * Marks this caster's saved data as loaded, allowing it to cast and be saved.
+     *
+     * @param stored whether the current state matches what is stored, false for new players
+     */
+    public void markReady(boolean stored) {
+        if (stored) {
+            savedVersion = version.get();
+            dirtyFields.set(0);
+        } else {
+            markDirty(DIRTY_ALL);
+        }
+        ready = true;
+    }
+
+    /**
+     * @return a counter increased on every change to persisted data
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * @return the {@code DIRTY_} flags of the fields changed since the last save
+     */
+    public int getDirtyFields() {
+        return dirtyFields.get();
+    }
+
+    /**
+     * @return true if persisted data changed since the last save
+     */
+    public boolean isDirty() {
+        return version.get() != savedVersion;
+    }
+
+    /**
+     * Records that the state at the given version was written.
+     * Changes made after that version keep the caster dirty.
+     */
+    public synchronized void markSaved(long savedVersion) {
+        if (savedVersion <= this.savedVersion) return;
+
+        this.savedVersion = savedVersion;
+        if (savedVersion == version.get()) dirtyFields.set(0);
+    }
+
+    private void markDirty(int fields) {
+        dirtyFields.getAndUpdate(current -> current | fields);
+        version.incrementAndGet();
     }
 
 
@@ -50,12 +168,75 @@ public class SpellCasterImpl implements SpellCaster {
 
     @Override
     public int getMagic() {
-        return magic;
+        return magicAt(TickClock.now());
+    }
+
+    private int magicAt(long tick) {
+        if (regenPerStep <= 0 || baseMagic >= maxMagic) return baseMagic;
+
+        long steps = (tick - baseTick) / regen.intervalTicks();
+        if (steps <= 0) return baseMagic;
+        return (int) Math.min(maxMagic, baseMagic + steps * regenPerStep);
     }
 
     @Override
     public void setMagic(int magic) {
-        this.magic = Math.max(0, Math.min(magic, maxMagic));
+        long now = TickClock.now();
+        int clamped = Math.max(0, Math.min(magic, maxMagic));
+        if (clamped == magicAt(now)) return;
+
+        rebase(now, clamped);
+        markDirty(DIRTY_MAGIC);
+    }
+
+    /**
+     * Moves the base to the current tick, keeping the progress into the running
+     * interval so spending magic does not delay the next regeneration step.
+     */
+    private void rebase(long now, int magic) {
+        long interval = regen.intervalTicks();
+        baseTick = now - Math.floorMod(now - baseTick, interval);
+        baseMagic = magic;
+    }
+
+    /**
+     * Restores saved magic, regenerating for the time passed since it was stored.
+     *
+     * @param magic        the stored magic
+     * @param elapsedTicks ticks since the stored magic was current, 0 to skip regeneration
+     */
+    public void restoreMagic(int magic, long elapsedTicks) {
+        baseMagic = Math.max(0, Math.min(magic, maxMagic));
+        baseTick = TickClock.now() - Math.max(0, elapsedTicks);
+        markDirty(DIRTY_MAGIC);
+    }
+
+    /**
+     * @return the stored magic amount, before regeneration since {@link #getMagicBaseMillis()}
+     */
+    public int getMagicBase() {
+        return baseMagic;
+    }
+
+    /**
+     * @return the wall-clock time in milliseconds at which {@link #getMagicBase()} was current
+     */
+    public long getMagicBaseMillis() {
+        return System.currentTimeMillis() - TickClock.toMillis(TickClock.now() - baseTick);
+    }
+
+    /**
+     * Changes the regeneration rate. Magic regenerated so far is kept at the old rate.
+     */
+    public void setRegen(MagicRegen regen) {
+        long now = TickClock.now();
+        int current = magicAt(now);
+        if (current != baseMagic) {
+            rebase(now, current);
+            markDirty(DIRTY_MAGIC);
+        }
+        this.regen = regen;
+        this.regenPerStep = regen.amountFor(this);
     }
 
     @Override
@@ -65,46 +246,75 @@ public class SpellCasterImpl implements SpellCaster {
 
     @Override
     public void setMaxMagic(int maxMagic) {
+        long now = TickClock.now();
+        int current = magicAt(now);
         this.maxMagic = maxMagic;
-        if (magic > maxMagic) magic = maxMagic;
+        if (current > maxMagic || current != baseMagic) {
+            rebase(now, Math.min(current, maxMagic));
+            markDirty(DIRTY_MAGIC);
+        }
     }
 
     @Override
     public boolean hasMagic(int amount) {
-        return magic >= amount;
+        return getMagic() >= amount;
     }
 
     @Override
     public void consumeMagic(int amount) {
-        magic = Math.max(0, magic - amount);
+        setMagic(getMagic() - amount);
     }
 
     @Override
     public void regenerateMagic(int amount) {
-        magic = Math.min(maxMagic, magic + amount);
+        setMagic(getMagic() + amount);
     }
 
     @Override
     public List<Spell> getLearnedSpells() {
-        return new ArrayList<>(learnedSpells);
+        List<Spell> spells = new ArrayList<>(learnedSpells.cardinality());
+        for (int id = learnedSpells.nextSetBit(0); id >= 0; id = learnedSpells.nextSetBit(id + 1)) {
+            registry.getSpell(id).ifPresent(spells::add);
+        }
+        return spells;
+    }
+
+    /**
+     * @return the ids of the learned spells, in ascending order
+     */
+    public int[] getLearnedSpellIds() {
+        return learnedSpells.stream().toArray();
     }
 
     @Override
     public boolean hasLearnedSpell(Spell spell) {
-        return spell != null && learnedSpells.contains(spell);
+        int id = idOf(spell);
+        return id >= 0 && learnedSpells.get(id);
     }
 
     @Override
     public void learnSpell(Spell spell) {
-        if (spell != null) learnedSpells.add(spell);
+        int id = idOf(spell);
+        if (id < 0 || learnedSpells.get(id)) return;
+
+        learnedSpells.set(id);
+        markDirty(DIRTY_LEARNED);
     }
 
     @Override
     public void unlearnSpell(Spell spell) {
-        learnedSpells.remove(spell);
+        int id = idOf(spell);
+        if (id < 0 || !learnedSpells.get(id)) return;
+
+        learnedSpells.clear(id);
+        markDirty(DIRTY_LEARNED);
+
         // Automatically unbind if bound
         for (int i = 0; i < boundSpells.length; i++) {
-            if (boundSpells[i] == spell) boundSpells[i] = null;
+            if (boundSpells[i] == spell) {
+                boundSpells[i] = null;
+                markDirty(DIRTY_BINDS);
+            }
         }
     }
 
@@ -116,11 +326,12 @@ public class SpellCasterImpl implements SpellCaster {
     @Override
     public void loadLearnedSpells(ConfigurationSection section, SpellManager registry) {
         learnedSpells.clear();
-        cooldowns.clear();
+        Arrays.fill(cooldowns, 0);
+        markDirty(DIRTY_LEARNED);
 
         if (section == null) return;
         for (String name : section.getStringList("list")) {
-            registry.getSpell(name).ifPresent(learnedSpells::add);
+            registry.getSpell(name).ifPresent(this::learnSpell);
         }
     }
 
@@ -135,13 +346,17 @@ public class SpellCasterImpl implements SpellCaster {
         if (spell == null) throw new IllegalArgumentException("Spell cannot be null");
         if (!hasLearnedSpell(spell)) throw new IllegalStateException("Spell not learned");
 
+        if (boundSpells[slot] == spell) return;
         boundSpells[slot] = spell;
+        markDirty(DIRTY_BINDS);
     }
 
     @Override
     public void unbindSpell(int slot) {
         if (slot < 0 || slot >= boundSpells.length) return;
+        if (boundSpells[slot] == null) return;
         boundSpells[slot] = null;
+        markDirty(DIRTY_BINDS);
     }
 
     @Override
@@ -159,6 +374,7 @@ public class SpellCasterImpl implements SpellCaster {
     @Override
     public void loadBinds(ConfigurationSection section, SpellManager registry) {
         Arrays.fill(boundSpells, null);
+        markDirty(DIRTY_BINDS);
         if (section == null) return;
 
         for (String key : section.getKeys(false)) {
@@ -178,70 +394,144 @@ public class SpellCasterImpl implements SpellCaster {
 
     @Override
     public boolean isOnCooldown(Spell spell) {
-        Long end = cooldowns.get(spell);
-        if (end == null || System.currentTimeMillis() >= end) {
-            cooldowns.remove(spell);
-            return false;
-        }
-        return true;
+        int id = idOf(spell);
+        return id >= 0 && id < cooldowns.length && cooldowns[id] > TickClock.now();
     }
 
     @Override
     public void setCooldown(Spell spell, long duration) {
-        cooldowns.put(spell, System.currentTimeMillis() + duration);
+        int id = idOf(spell);
+        if (id < 0) return;
+
+        if (id >= cooldowns.length) cooldowns = Arrays.copyOf(cooldowns, Math.max(id + 1, cooldowns.length * 2));
+        cooldowns[id] = TickClock.now() + TickClock.toTicks(duration);
     }
 
     @Override
     public long getRemainingCooldown(Spell spell) {
-        Long end = cooldowns.get(spell);
-        return end == null ? 0 : Math.max(0, end - System.currentTimeMillis());
+        int id = idOf(spell);
+        if (id < 0 || id >= cooldowns.length) return 0;
+        return TickClock.toMillis(Math.max(0, cooldowns[id] - TickClock.now()));
+    }
+
+    private int idOf(Spell spell) {
+        if (spell == null) return -1;
+
+        int id = spell.getId();
+        return id >= 0 ? id : registry.getSpellId(spell);
+    }
+
+    /**
+     * @return the magic cost of a spell after this caster's house and element perks
+     */
+    public int getEffectiveMagicCost(Spell spell) {
+        int id = perkSlot(spell);
+        return id >= 0 ? perkCosts[id] : perks.getTable().magicCost(spell, house);
+    }
+
+    /**
+     * @return the cooldown in milliseconds of a spell after this caster's house and element perks
+     */
+    public long getEffectiveCooldown(Spell spell) {
+        int id = perkSlot(spell);
+        return id >= 0 ? perkCooldowns[id] : perks.getTable().cooldown(spell, house);
+    }
+
+    /** Fills the perk cache for a spell if needed, returning its id or -1 if it cannot be cached */
+    private int perkSlot(Spell spell) {
+        int id = idOf(spell);
+        if (id < 0) return -1;
+
+        PerkTable table = perks.getTable();
+        if (table != perkTable) {
+            Arrays.fill(perkSpells, null);
+            perkTable = table;
+        }
+
+        if (id >= perkSpells.length) {
+            int length = Math.max(id + 1, perkSpells.length * 2);
+            perkSpells = Arrays.copyOf(perkSpells, length);
+            perkCosts = Arrays.copyOf(perkCosts, length);
+            perkCooldowns = Arrays.copyOf(perkCooldowns, length);
+        }
+
+        if (perkSpells[id] != spell) {
+            perkCosts[id] = table.magicCost(spell, house);
+            perkCooldowns[id] = table.cooldown(spell, house);
+            perkSpells[id] = spell;
+        }
+        return id;
     }
 
     @Override
     public SpellResult castSpell(Spell spell) {
 
+        if (!ready) {
+            fail(spell, "NOT_READY");
+            return SpellResult.NOT_READY;
+        }
+
         if (!hasLearnedSpell(spell)) {
-            Bukkit.getPluginManager().callEvent(new SpellFailEvent(this, spell, "NOT_LEARNED"));
+            fail(spell, "NOT_LEARNED");
             return SpellResult.FAILURE;
         }
 
-        SpellPreCastEvent pre = new SpellPreCastEvent(this, spell, spell.getMagicCost());
-        Bukkit.getPluginManager().callEvent(pre);
+        int cost = spell.getMagicCost();
 
-        if (pre.isCancelled()) {
-            Bukkit.getPluginManager().callEvent(new SpellFailEvent(this, spell, "CANCELLED"));
-            return SpellResult.FAILURE;
+        // Only build the pre-cast event when someone can change its outcome
+        if (SPELL_EVENTS.hasListeners()) {
+            SpellPreCastEvent pre = new SpellPreCastEvent(this, spell, cost);
+            Bukkit.getPluginManager().callEvent(pre);
+
+            if (pre.isCancelled()) {
+                fail(spell, "CANCELLED");
+                return SpellResult.FAILURE;
+            }
+            cost = pre.getMagicCost();
         }
 
         if (isOnCooldown(spell)) {
-            Bukkit.getPluginManager().callEvent(new SpellFailEvent(this, spell, "COOLDOWN"));
+            fail(spell, "COOLDOWN");
             return SpellResult.FAILURE;
         }
 
-        if (!hasMagic(pre.getMagicCost())) {
-            Bukkit.getPluginManager().callEvent(new SpellFailEvent(this, spell, "INSUFFICIENT_MAGIC"));
+        if (!hasMagic(cost)) {
+            fail(spell, "INSUFFICIENT_MAGIC");
             return SpellResult.FAILURE;
         }
 
         // attempt cast FIRST
+        CastEvent castEvent = new CastEvent();
+        castEvent.begin();
+        long castStart = System.nanoTime();
         SpellResult result = spell.cast(this);
+        registry.getMetrics(spell).recordCast(System.nanoTime() - castStart, result == SpellResult.SUCCESS);
+        castEvent.complete(spell.getName(), player.getName(), result);
 
         if (result != SpellResult.SUCCESS) {
-            Bukkit.getPluginManager().callEvent(new SpellFailEvent(this, spell, "CAST_FAILED"));
+            fail(spell, "CAST_FAILED");
             return result;
         }
 
         // only consume magic AFTER success
-        consumeMagic(pre.getMagicCost());
+        consumeMagic(cost);
 
         // apply cooldown AFTER success
         setCooldown(spell, spell.getCooldown());
 
-        Bukkit.getPluginManager().callEvent(new SpellCastEvent(this, spell));
+        if (SPELL_EVENTS.hasListeners()) {
+            Bukkit.getPluginManager().callEvent(new SpellCastEvent(this, spell));
+        }
 
         return SpellResult.SUCCESS;
     }
 
+    private void fail(Spell spell, String reason) {
+        if (SPELL_EVENTS.hasListeners()) {
+            Bukkit.getPluginManager().callEvent(new SpellFailEvent(this, spell, reason));
+        }
+    }
+
     @Override
     public House getHouse() {
         return house;
@@ -249,13 +539,21 @@ public class SpellCasterImpl implements SpellCaster {
 
     @Override
     public void setHouse(House house) {
-        this.house = house;
+        if (this.house != house) {
+            markDirty(DIRTY_HOUSE);
+            // House perks change the regen bonus, keep what regenerated under the old one
+            setRegen(regen);
+            this.house = house;
+            this.regenPerStep = regen.amountFor(this);
+            this.perkTable = null;
+        }
         // Automatically unbind illegal spells
         if (house != null) {
             for (int i = 0; i < boundSpells.length; i++) {
                 Spell spell = boundSpells[i];
                 if (spell != null && spell.getElement() != null && !HouseUtil.canUse(house, spell.getElement())) {
                     boundSpells[i] = null;
+                    markDirty(DIRTY_BINDS);
                 }
             }
         }
@@ -2,27 +2,48 @@ package com.spellcraft.core;
 
 import com.spellcraft.SpellCraftPlugin;
 import com.spellcraft.api.SpellCaster;
+import com.spellcraft.util.TaskScope;
 import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Deque;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 public class SpellCasterManager {
 
-    private final Map<UUID, SpellCaster> casters = new HashMap<>();
+    private final Map<UUID, SpellCaster> casters = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<SpellCaster>> loading = new ConcurrentHashMap<>();
     private final int defaultMaxMagic;
     private final SpellCraftPlugin plugin;
+    private volatile MagicRegen regen;
+
+    /** Handed out for players without a caster, owning a task through it cancels the task */
+    private static final TaskScope CLOSED_SESSION = new TaskScope("Closed Session");
+
+    static {
+        CLOSED_SESSION.close();
+    }
 
     // Auto-save interval in ticks (20 ticks = 1 second)
     private static final long AUTO_SAVE_INTERVAL_TICKS = 20 * 60; // 1 minute
+    // Each caster is checked once per interval, a slice of them every step
+    private static final long AUTO_SAVE_STEP_TICKS = 20;
+
+    /** Casters left to check in the current auto-save interval, only used by the auto-save task */
+    private final Deque<UUID> autoSaveQueue = new ArrayDeque<>();
+    private int autoSaveBatch;
 
     public SpellCasterManager(SpellCraftPlugin plugin, int defaultMaxMagic) {
         this.plugin = plugin;
         this.defaultMaxMagic = defaultMaxMagic;
+        this.regen = loadRegen();
 
         startAutoSaveTask();
     }
@@ -30,6 +51,9 @@ public class SpellCasterManager {
     /**
      * Returns a SpellCaster for a player.
      * Loads it exactly once and reuses it thereafter.
+     * <p>
+     * Never blocks on IO. A caster returned before its data has loaded is not
+     * {@link SpellCaster#isReady() ready}; see {@link #whenLoaded(UUID)}.
      */
     public SpellCaster getCaster(Player player) {
         if (player == null) throw new IllegalArgumentException("player cannot be null");
@@ -38,9 +62,47 @@ public class SpellCasterManager {
         SpellCaster existing = casters.get(uuid);
         if (existing != null) return existing;
 
-        SpellCaster loaded = plugin.getPlayerDataManager().load(player);
-        casters.put(uuid, loaded);
-        return loaded;
+        SpellCasterImpl caster = new SpellCasterImpl(
+                player, defaultMaxMagic, regen, plugin.getPerkManager(), plugin.getSpellManager());
+        existing = casters.putIfAbsent(uuid, caster);
+        if (existing != null) return existing;
+
+        CompletableFuture<SpellCaster> ready = new CompletableFuture<>();
+        loading.put(uuid, ready);
+
+        plugin.getPlayerDataManager().claim(uuid).whenComplete((data, error) -> {
+            if (error != null) {
+                // The caster stays unready so it never overwrites the stored data
+                plugin.getLogger().log(Level.SEVERE, "Failed to load player data for " + player.getName(), error);
+                loading.remove(uuid, ready);
+                ready.completeExceptionally(error);
+                return;
+            }
+
+            ThreadUtil.ensureEntity(player, () -> {
+                if (casters.get(uuid) != caster) return;
+
+                plugin.getPlayerDataManager().apply(caster, data);
+                loading.remove(uuid, ready);
+                ready.complete(caster);
+            });
+        });
+
+        return caster;
+    }
+
+    /**
+     * Returns a future completing on the player's thread once their caster is loaded.
+     * Completes immediately if the caster is already loaded.
+     */
+    public CompletableFuture<SpellCaster> whenLoaded(UUID uuid) {
+        CompletableFuture<SpellCaster> pending = loading.get(uuid);
+        if (pending != null) return pending;
+
+        SpellCaster caster = casters.get(uuid);
+        return caster != null
+                ? CompletableFuture.completedFuture(caster)
+                : CompletableFuture.failedFuture(new IllegalStateException("No caster for " + uuid));
     }
 
     /**
@@ -51,25 +113,50 @@ public class SpellCasterManager {
     }
 
     /**
-     * Removes a caster from memory (does NOT save).
+     * Returns the scope owning everything scheduled for a player's current session.
+     * Tasks attached to it are cancelled, and casts removed, when the player leaves.
+     * For players without a caster a closed scope is returned.
+     */
+    public TaskScope getSession(UUID uuid) {
+        return casters.get(uuid) instanceof SpellCasterImpl impl ? impl.getSession() : CLOSED_SESSION;
+    }
+
+    /**
+     * Removes a caster from memory (does NOT save) and ends its session.
      */
     public void removeCaster(UUID uuid) {
-        casters.remove(uuid);
+        SpellCaster removed = casters.remove(uuid);
+        loading.remove(uuid);
+        plugin.getPlayerDataManager().discardPreload(uuid);
+
+        if (removed instanceof SpellCasterImpl impl) impl.getSession().close();
     }
 
     /**
-     * Saves all loaded casters asynchronously.
+     * Saves all loaded casters with unsaved changes asynchronously.
      */
     public void saveAll() {
         casters.values().forEach(plugin.getPlayerDataManager()::saveAsync);
     }
 
+    /**
+     * Saves all loaded casters with unsaved changes, taking every snapshot on the calling thread.
+     * Used on disable, when player threads no longer run scheduled tasks.
+     */
+    public void saveAllNow() {
+        casters.values().forEach(plugin.getPlayerDataManager()::saveNow);
+    }
+
     /**
      * Clears all loaded casters from memory.
-     * Should be called AFTER saveAll().
+     * Should be called AFTER saveAll() or saveAllNow().
      */
     public void clearCasters() {
+        for (SpellCaster caster : casters.values()) {
+            if (caster instanceof SpellCasterImpl impl) impl.getSession().close();
+        }
         casters.clear();
+        loading.clear();
     }
 
     /**
@@ -84,6 +171,27 @@ public class SpellCasterManager {
         return defaultMaxMagic;
     }
 
+    /**
+     * Re-reads the regeneration rate from the config and applies it to every loaded caster.
+     * Also picks up changed house regen bonuses from the perks config.
+     */
+    public void reloadRegen() {
+        MagicRegen regen = loadRegen();
+        this.regen = regen;
+
+        for (SpellCaster caster : casters.values()) {
+            if (!(caster instanceof SpellCasterImpl impl)) continue;
+            ThreadUtil.ensureEntity(caster.getPlayer(), () -> impl.setRegen(regen));
+        }
+    }
+
+    private MagicRegen loadRegen() {
+        return MagicRegen.load(
+                plugin.getConfig().getConfigurationSection("magic"),
+                caster -> plugin.getPerkManager().getBonusRegen(caster)
+        );
+    }
+
     /**
      * Registers a caster only if one is not already present.
      * Safe for reloads.
@@ -93,9 +201,23 @@ public class SpellCasterManager {
     }
 
     /**
-     * Starts a repeating async task that saves all loaded players periodically.
+     * Starts a repeating async task that saves changed players periodically.
+     * Writes are spread over the interval instead of happening all at once.
      */
     private void startAutoSaveTask() {
-        ThreadUtil.runAsyncTimer(this::saveAll, AUTO_SAVE_INTERVAL_TICKS, AUTO_SAVE_INTERVAL_TICKS);
+        ThreadUtil.runAsyncTimer(this::autoSaveStep, AUTO_SAVE_STEP_TICKS, AUTO_SAVE_STEP_TICKS, "Player Auto Save");
+    }
+
+    private void autoSaveStep() {
+        if (autoSaveQueue.isEmpty()) {
+            autoSaveQueue.addAll(casters.keySet());
+            long steps = AUTO_SAVE_INTERVAL_TICKS / AUTO_SAVE_STEP_TICKS;
+            autoSaveBatch = (int) ((autoSaveQueue.size() + steps - 1) / steps);
+        }
+
+        for (int i = 0; i < autoSaveBatch && !autoSaveQueue.isEmpty(); i++) {
+            SpellCaster caster = casters.get(autoSaveQueue.poll());
+            if (caster != null) plugin.getPlayerDataManager().saveAsync(caster);
+        }
     }
 }
@@ -3,49 +3,54 @@ package com.spellcraft.core;
 import com.spellcraft.api.Spell;
 import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellManager;
-import com.spellcraft.util.ThreadUtil;
-import org.bukkit.Bukkit;
-import org.bukkit.Location;
-import org.bukkit.plugin.Plugin;
+import com.spellcraft.api.magic.MagicElement;
+import com.spellcraft.core.metrics.SpellMetrics;
+import com.spellcraft.core.metrics.SpellMetricsRegistry;
 
 import java.util.*;
-import java.util.concurrent.*;
-import java.util.spi.AbstractResourceBundleProvider;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Spell registry.
+ * <p>
+ * All lookups read an immutable {@link Registry} snapshot, so readers never lock.
+ * Registering or unregistering builds a new snapshot and publishes it.
+ */
 public class SpellManagerImpl implements SpellManager {
 
-    private final Map<String, Spell> spells = new ConcurrentHashMap<>();
-    private final Set<AbstractSpell> activeSpells = ConcurrentHashMap.newKeySet();
-
-    private static final ExecutorService ASYNC_EXECUTOR =
-            Executors.newFixedThreadPool(2, r -> {
-                Thread t = new Thread(r, "SpellCraft-Async");
-                t.setDaemon(true);
-                return t;
-            });
+    private volatile Registry registry = Registry.EMPTY;
+    private final SpellMetricsRegistry metrics = new SpellMetricsRegistry();
+    private final SpellTickEngine tickEngine = new SpellTickEngine(metrics);
 
     public SpellManagerImpl() {
     }
 
     @Override
     public void track(AbstractSpell spell) {
-        activeSpells.add(spell);
+        tickEngine.track(spell);
+    }
 
-        ThreadUtil.ThreadTask task = ThreadUtil.ensureLocationTimer(spell.getLocation(), () -> {
-            if (spell.isRemoved()) {
-                return;
-            }
-            spell.progress();
-        }, 1L, 1L, "Spell Progress Timer: " + spell.getName());
+    @Override
+    public Set<AbstractSpell> getActiveSpells() {
+        return tickEngine.getActiveSpells();
+    }
 
-        spell.setProgressTask(task);
+    public SpellTickEngine getTickEngine() {
+        return tickEngine;
     }
 
+    @Override
+    public SpellMetrics getMetrics(Spell spell) {
+        return metrics.get(spell);
+    }
 
     @Override
-    public Set<AbstractSpell> getActiveSpells() {
-        return Collections.unmodifiableSet(activeSpells);
+    public List<SpellMetrics> getAllMetrics() {
+        return metrics.getAll();
+    }
+
+    public SpellMetricsRegistry getMetricsRegistry() {
+        return metrics;
     }
 
     @Override
@@ -54,129 +59,214 @@ public class SpellManagerImpl implements SpellManager {
             throw new IllegalArgumentException("Cannot register null spell");
         }
 
-        spells.put(spell.getName().toLowerCase(), spell);
+        synchronized (this) {
+            Registry current = registry;
+            // Interned once here, so the registry holds one copy of each name
+            String key = key(spell.getName()).intern();
+
+            Map<String, Spell> spells = new LinkedHashMap<>(current.spells);
+            spells.put(key, spell);
+
+            // Names keep their id for the lifetime of the server
+            Map<String, Integer> ids = new HashMap<>(current.ids);
+            int id = ids.computeIfAbsent(key, name -> ids.size());
+
+            Spell[] byId = Arrays.copyOf(current.byId, Math.max(current.byId.length, id + 1));
+            byId[id] = spell;
+
+            if (spell instanceof AbstractSpell abstractSpell) {
+                abstractSpell.assignId(id);
+            }
+            registry = new Registry(spells, ids, byId);
+        }
 
         if (spell instanceof AbstractSpell abstractSpell) {
             abstractSpell.onLoad();
         }
     }
 
+    /**
+     * Registration only touches memory, so this registers inline.
+     */
     @Override
     public void registerSpellAsync(Spell spell) {
-        if (spell == null) {
-            throw new IllegalArgumentException("Cannot register null spell");
-        }
-
-        CompletableFuture.runAsync(() -> {
-            spells.put(spell.getName().toLowerCase(), spell);
-            if (spell instanceof AbstractSpell abstractSpell) {
-                abstractSpell.onLoad();
-            }
-        }, ASYNC_EXECUTOR);
+        registerSpell(spell);
     }
 
     @Override
     public void unregisterSpell(Spell spell) {
         if (spell == null) return;
 
-        spells.remove(spell.getName().toLowerCase());
+        synchronized (this) {
+            Registry current = registry;
+            // Interned once here, so the registry holds one copy of each name
+            String key = key(spell.getName()).intern();
+
+            Map<String, Spell> spells = new LinkedHashMap<>(current.spells);
+            Spell removed = spells.remove(key);
+            if (removed == null) return;
+
+            Spell[] byId = current.byId.clone();
+            Integer id = current.ids.get(key);
+            if (id != null) byId[id] = null;
+
+            registry = new Registry(spells, current.ids, byId);
+        }
 
         if (spell instanceof AbstractSpell abstractSpell) {
             abstractSpell.onStop();
         }
     }
 
+    /**
+     * Unregistration only touches memory, so this unregisters inline.
+     */
     @Override
     public void unregisterSpellAsync(Spell spell) {
-        if (spell == null) return;
-
-        CompletableFuture.runAsync(() -> {
-            spells.remove(spell.getName().toLowerCase());
-            if (spell instanceof AbstractSpell abstractSpell) {
-                abstractSpell.onStop();
-            }
-        }, ASYNC_EXECUTOR);
+        unregisterSpell(spell);
     }
 
     @Override
     public Optional<Spell> getSpell(String name) {
-        if (name == null) return Optional.empty();
-        return Optional.ofNullable(spells.get(name.toLowerCase()));
+        return Optional.ofNullable(lookup(name));
     }
 
     @Override
-    public CompletableFuture<Optional<Spell>> getSpellAsync(String name) {
-        if (name == null) {
-            return CompletableFuture.completedFuture(Optional.empty());
-        }
+    public Optional<Spell> getSpell(int id) {
+        Spell[] spells = registry.byId;
+        return id >= 0 && id < spells.length ? Optional.ofNullable(spells[id]) : Optional.empty();
+    }
+
+    @Override
+    public int getSpellId(Spell spell) {
+        if (spell == null) return -1;
 
-        return CompletableFuture.supplyAsync(
-                () -> Optional.ofNullable(spells.get(name.toLowerCase())),
-                ASYNC_EXECUTOR
-        );
+        int id = spell.getId();
+        if (id >= 0) return id;
+        return registry.ids.getOrDefault(key(spell.getName()), -1);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Spell>> getSpellAsync(String name) {
+        return CompletableFuture.completedFuture(getSpell(name));
     }
 
     @Override
     public Collection<Spell> getAllSpells() {
-        return new ArrayList<>(spells.values());
+        return registry.all;
     }
 
     @Override
     public CompletableFuture<Collection<Spell>> getAllSpellsAsync() {
-        return CompletableFuture.supplyAsync(
-                () -> new ArrayList<>(spells.values()),
-                ASYNC_EXECUTOR
-        );
+        return CompletableFuture.completedFuture(getAllSpells());
     }
 
     @Override
     public Map<String, Spell> getSpellMap() {
-        return spells;
+        return registry.spells;
     }
 
     @Override
     public Collection<Spell> getSpellsByCategory(SpellCategory category) {
-        return spells.values().stream()
-                .filter(spell -> spell.getCategory() == category)
-                .collect(Collectors.toList());
+        return registry.byCategory.getOrDefault(category, List.of());
     }
 
     @Override
     public CompletableFuture<Collection<Spell>> getSpellsByCategoryAsync(SpellCategory category) {
-        return CompletableFuture.supplyAsync(
-                () -> spells.values().stream()
-                        .filter(spell -> spell.getCategory() == category)
-                        .collect(Collectors.toList()),
-                ASYNC_EXECUTOR
-        );
+        return CompletableFuture.completedFuture(getSpellsByCategory(category));
+    }
+
+    @Override
+    public Collection<Spell> getSpellsByElement(MagicElement element) {
+        return registry.byElement.getOrDefault(element, List.of());
+    }
+
+    @Override
+    public List<String> completeSpellName(String prefix) {
+        return registry.names.complete(prefix == null ? "" : prefix);
     }
 
     @Override
     public boolean isSpellRegistered(String name) {
-        if (name == null) return false;
-        return spells.containsKey(name.toLowerCase());
+        return lookup(name) != null;
     }
 
     @Override
     public CompletableFuture<Boolean> isSpellRegisteredAsync(String name) {
-        if (name == null) {
-            return CompletableFuture.completedFuture(false);
-        }
-
-        return CompletableFuture.supplyAsync(
-                () -> spells.containsKey(name.toLowerCase()),
-                ASYNC_EXECUTOR
-        );
+        return CompletableFuture.completedFuture(isSpellRegistered(name));
     }
 
     @Override
     public void reloadSpells() {
-        spells.values().forEach(spell -> spell.setEnabled(true));
+        registry.all.forEach(spell -> spell.setEnabled(true));
     }
 
     @Override
     public void shutdown() {
-        ASYNC_EXECUTOR.shutdownNow();
-        activeSpells.clear();
+        tickEngine.shutdown();
+    }
+
+    private Spell lookup(String name) {
+        if (name == null) return null;
+
+        // Names typed as registered or already lower case skip the conversion
+        Registry current = registry;
+        Spell spell = current.byName.get(name);
+        return spell != null ? spell : current.byName.get(key(name));
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Immutable view of the registered spells with every index precomputed.
+     */
+    private static final class Registry {
+
+        static final Registry EMPTY = new Registry(Map.of(), Map.of(), new Spell[0]);
+
+        /** Spells by lower case name, in registration order */
+        final Map<String, Spell> spells;
+        /** Spells by lower case name and by name as registered */
+        final Map<String, Spell> byName;
+        final Map<String, Integer> ids;
+        final Spell[] byId;
+        final List<Spell> all;
+        final Map<SpellCategory, List<Spell>> byCategory;
+        final Map<MagicElement, List<Spell>> byElement;
+        final SpellNameTrie names;
+
+        Registry(Map<String, Spell> spells, Map<String, Integer> ids, Spell[] byId) {
+            this.spells = Collections.unmodifiableMap(spells);
+            this.ids = Collections.unmodifiableMap(ids);
+            this.byId = byId;
+            this.all = List.copyOf(spells.values());
+
+            Map<String, Spell> byName = new HashMap<>(spells);
+            Map<SpellCategory, List<Spell>> byCategory = new EnumMap<>(SpellCategory.class);
+            Map<MagicElement, List<Spell>> byElement = new HashMap<>();
+            List<String> names = new ArrayList<>(spells.size());
+
+            for (Spell spell : all) {
+                byName.putIfAbsent(spell.getName(), spell);
+                names.add(spell.getName());
+
+                if (spell.getCategory() != null) {
+                    byCategory.computeIfAbsent(spell.getCategory(), category -> new ArrayList<>()).add(spell);
+                }
+                if (spell.getElement() != null) {
+                    byElement.computeIfAbsent(spell.getElement(), element -> new ArrayList<>()).add(spell);
+                }
+            }
+
+            byCategory.replaceAll((category, list) -> List.copyOf(list));
+            byElement.replaceAll((element, list) -> List.copyOf(list));
+
+            this.byName = byName;
+            this.byCategory = Collections.unmodifiableMap(byCategory);
+            this.byElement = Map.copyOf(byElement);
+            this.names = new SpellNameTrie(names);
+        }
     }
 }
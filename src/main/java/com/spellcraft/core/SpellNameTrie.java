@@ -0,0 +1,57 @@
+package com.spellcraft.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, case-insensitive prefix trie over spell names, used for tab completion.
+ * <p>
+ * Every node keeps the sorted names below it, so a lookup walks the prefix once and
+ * returns a precomputed list.
+ */
+final class SpellNameTrie {
+
+    private final Node root = new Node();
+
+    SpellNameTrie(Iterable<String> names) {
+        for (String name : names) {
+            Node node = root;
+            node.names.add(name);
+
+            for (int i = 0; i < name.length(); i++) {
+                node = node.children.computeIfAbsent(Character.toLowerCase(name.charAt(i)), c -> new Node());
+                node.names.add(name);
+            }
+        }
+        root.freeze();
+    }
+
+    /**
+     * @param prefix the typed prefix, matched ignoring case
+     * @return the names starting with the prefix, sorted ignoring case
+     */
+    List<String> complete(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(Character.toLowerCase(prefix.charAt(i)));
+        }
+        return node != null ? node.frozen : List.of();
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private List<String> frozen;
+
+        private void freeze() {
+            names.sort(Comparator.comparing(String::toLowerCase));
+            frozen = List.copyOf(names);
+            names.clear();
+            children.values().forEach(Node::freeze);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.spellcraft.core;
+
+import com.spellcraft.SpellCraftPlugin;
+import com.spellcraft.core.jfr.ProgressEvent;
+import com.spellcraft.core.metrics.SpellMetrics;
+import com.spellcraft.core.metrics.SpellMetricsRegistry;
+import com.spellcraft.util.ThreadUtil;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+import static com.cjcrafter.foliascheduler.util.ServerVersions.isFolia;
+
+/**
+ * Central tick loop for active spells.
+ * <p>
+ * Instead of scheduling a repeating task for every cast, active {@link AbstractSpell}s are
+ * grouped per world (or per region cell on Folia) and each group is progressed in a single
+ * pass by one repeating task. Finished spells are dropped from the group in place, and a
+ * group releases its task once it has been empty for a while.
+ */
+public class SpellTickEngine {
+
+    /** Block shift used to split worlds into region cells on Folia (256 x 256 blocks). */
+    private static final int CELL_SHIFT = 8;
+
+    /** Number of consecutive empty passes before a group releases its task. */
+    private static final int IDLE_PASSES = 100;
+
+    /** Initial capacity of a group's active spell array. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Tick groups keyed by world and region cell. */
+    private final Map<GroupKey, TickGroup> groups = new ConcurrentHashMap<>();
+
+    /** Every spell currently owned by a tick group. */
+    private final Set<AbstractSpell> activeSpells = ConcurrentHashMap.newKeySet();
+
+    /** Receives cast progress timings and active instance counts. */
+    private final SpellMetricsRegistry metrics;
+
+    public SpellTickEngine(@NotNull SpellMetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Hands a spell over to the tick group covering its location.
+     * <p>
+     * The spell is progressed once per tick until it is removed. Tracking a spell that is
+     * already active has no effect.
+     *
+     * @param spell the spell to progress
+     */
+    public void track(@NotNull AbstractSpell spell) {
+        if (!activeSpells.add(spell)) return;
+        metrics.get(spell).instanceStarted();
+        enqueue(spell, spell.getLocation());
+    }
+
+    /**
+     * @return a read-only view of every spell currently being progressed
+     */
+    public Set<AbstractSpell> getActiveSpells() {
+        return Collections.unmodifiableSet(activeSpells);
+    }
+
+    /**
+     * @return the number of tick groups that currently own a scheduler task
+     */
+    public int getGroupCount() {
+        return groups.size();
+    }
+
+    /**
+     * Cancels every group task and removes all active spells.
+     */
+    public void shutdown() {
+        for (TickGroup group : groups.values()) {
+            group.cancel();
+        }
+        groups.clear();
+
+        for (AbstractSpell spell : activeSpells) {
+            spell.remove();
+        }
+        activeSpells.clear();
+    }
+
+    private void enqueue(AbstractSpell spell, Location location) {
+        GroupKey key = GroupKey.of(location);
+        TickGroup group = groups.compute(key, (k, existing) -> {
+            TickGroup target = existing != null ? existing : new TickGroup(k, location.clone());
+            target.incoming.add(spell);
+            return target;
+        });
+        group.start();
+    }
+
+    /**
+     * Identifies a tick group. Outside Folia every world is a single cell.
+     */
+    private record GroupKey(UUID world, int cellX, int cellZ) {
+
+        static GroupKey of(Location location) {
+            World world = location.getWorld();
+            UUID id = world == null ? null : world.getUID();
+            if (!isFolia()) return new GroupKey(id, 0, 0);
+            return new GroupKey(id, location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+        }
+    }
+
+    /**
+     * A set of spells progressed together by one repeating task.
+     * <p>
+     * The active array is only touched by the group's own task; other threads hand spells
+     * over through the {@link #incoming} queue.
+     */
+    private final class TickGroup {
+
+        private final GroupKey key;
+        private final Location anchor;
+        private final Queue<AbstractSpell> incoming = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private AbstractSpell[] active = new AbstractSpell[INITIAL_CAPACITY];
+        /** Metrics of each active spell, parallel to {@link #active} */
+        private SpellMetrics[] activeMetrics = new SpellMetrics[INITIAL_CAPACITY];
+        private int size;
+        private int idlePasses;
+        private ThreadUtil.ThreadTask task;
+
+        private TickGroup(GroupKey key, Location anchor) {
+            this.key = key;
+            this.anchor = anchor;
+        }
+
+        private void start() {
+            if (!started.compareAndSet(false, true)) return;
+
+            String world = anchor.getWorld() == null ? "unknown" : anchor.getWorld().getName();
+            task = ThreadUtil.ensureLocationTimer(anchor, this::tick, 1L, 1L,
+                    "Spell Tick: " + world + " [" + key.cellX() + ", " + key.cellZ() + "]");
+        }
+
+        private void cancel() {
+            if (task != null) task.cancel();
+        }
+
+        private void tick() {
+            drainIncoming();
+
+            int write = 0;
+            for (int read = 0; read < size; read++) {
+                AbstractSpell spell = active[read];
+                SpellMetrics spellMetrics = activeMetrics[read];
+
+                if (!spell.isRemoved()) {
+                    progress(spell, spellMetrics);
+                }
+
+                if (spell.isRemoved()) {
+                    if (activeSpells.remove(spell)) spellMetrics.instanceStopped();
+                    continue;
+                }
+
+                if (isFolia() && !key.equals(GroupKey.of(spell.getLocation()))) {
+                    // Spell moved into another region cell, let that cell's task own it
+                    enqueue(spell, spell.getLocation());
+                    continue;
+                }
+
+                active[write] = spell;
+                activeMetrics[write++] = spellMetrics;
+            }
+
+            Arrays.fill(active, write, size, null);
+            Arrays.fill(activeMetrics, write, size, null);
+            size = write;
+
+            if (size == 0 && ++idlePasses >= IDLE_PASSES) {
+                release();
+            } else if (size > 0) {
+                idlePasses = 0;
+            }
+        }
+
+        private void progress(AbstractSpell spell, SpellMetrics spellMetrics) {
+            ProgressEvent event = new ProgressEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                spell.progress();
+            } catch (Exception e) {
+                SpellCraftPlugin.log.log(Level.WARNING, "Error progressing spell " + spell.getName(), e);
+                spell.remove();
+            } finally {
+                spellMetrics.recordProgress(System.nanoTime() - start);
+                event.complete(spell.getName(), spell.isRemoved());
+            }
+        }
+
+        private void drainIncoming() {
+            AbstractSpell spell;
+            while ((spell = incoming.poll()) != null) {
+                if (size == active.length) {
+                    active = Arrays.copyOf(active, size * 2);
+                    activeMetrics = Arrays.copyOf(activeMetrics, size * 2);
+                }
+                active[size] = spell;
+                activeMetrics[size++] = metrics.get(spell);
+            }
+        }
+
+        private void release() {
+            boolean removed = groups.computeIfPresent(key, (k, group) ->
+                    group == this && size == 0 && incoming.isEmpty() ? null : group) == null;
+
+            if (removed) {
+                cancel();
+            } else {
+                idlePasses = 0;
+            }
+        }
+    }
+}
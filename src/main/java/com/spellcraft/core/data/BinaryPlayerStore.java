@@ -0,0 +1,473 @@
+package com.spellcraft.core.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link PlayerStore} keeping all players in one memory-mapped, append-only segment file.
+ * <p>
+ * Layout, all big-endian:
+ * <pre>
+ * header:  int magic, int version
+ * record:  byte type, int length, byte[length] payload
+ *
+ * NAME:    byte kind, short id, short length, byte[length] UTF-8 name
+ * PLAYER:  long uuidMost, long uuidLeast, int magic (-1 = full),
+ *          short house (-1 = none), short words, long[words] learned spell bitset,
+ *          short[9] bound spell ids (-1 = empty),
+ *          long magicUpdated (epoch millis, absent in records written before it existed)
+ * </pre>
+ * Spell and house names are written once as NAME records and referenced by id afterwards.
+ * Every save appends a new PLAYER record, and an in-memory index built by scanning the
+ * segment points at the latest one. Compaction rewrites the segment with only live records
+ * once more than half of it is stale.
+ * <p>
+ * The type byte of a record is written last, so a record torn by a crash reads as the end
+ * of the segment.
+ * <p>
+ * The index and the end of the segment only live in memory, so one file must never be open in
+ * two servers at once. An exclusive lock on a {@code .lock} file next to the segment is held
+ * while the store is open, and opening fails if another process holds it.
+ */
+public class BinaryPlayerStore implements PlayerStore {
+
+    private static final int MAGIC = 0x53435044; // "SCPD"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 5;
+
+    private static final byte TYPE_END = 0;
+    private static final byte TYPE_NAME = 1;
+    private static final byte TYPE_PLAYER = 2;
+
+    private static final byte KIND_SPELL = 0;
+    private static final byte KIND_HOUSE = 1;
+
+    private static final int BIND_SLOTS = 9;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+    private static final int MIN_COMPACT_WASTE = 64 * 1024;
+
+    private final Path file;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private FileChannel lockChannel;
+    private FileLock fileLock;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int end;
+    private int wasted;
+
+    private final Map<UUID, Integer> index = new HashMap<>();
+    private final List<String> spellNames = new ArrayList<>();
+    private final List<String> houseNames = new ArrayList<>();
+    private final Map<String, Integer> spellIds = new HashMap<>();
+    private final Map<String, Integer> houseIds = new HashMap<>();
+
+    public BinaryPlayerStore(File file) throws IOException {
+        this.file = file.toPath();
+        try {
+            open();
+        } catch (IOException e) {
+            if (channel != null) channel.close();
+            releaseFileLock();
+            throw e;
+        }
+    }
+
+    @Override
+    public PlayerData read(UUID uuid) throws IOException {
+        lock.readLock().lock();
+        try {
+            Integer offset = index.get(uuid);
+            if (offset == null) return PlayerData.empty();
+            return decode(offset + RECORD_HEADER_SIZE, buffer.getInt(offset + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void write(UUID uuid, PlayerData data) throws IOException {
+        lock.writeLock().lock();
+        try {
+            // Make sure every name has an id before the record is sized
+            int house = data.house() != null ? nameId(KIND_HOUSE, data.house()) : -1;
+
+            BitSet learned = new BitSet();
+            for (String name : data.learnedSpells()) {
+                learned.set(nameId(KIND_SPELL, name));
+            }
+
+            short[] binds = new short[BIND_SLOTS];
+            for (int i = 0; i < BIND_SLOTS; i++) {
+                String name = i < data.binds().length ? data.binds()[i] : null;
+                binds[i] = (short) (name != null ? nameId(KIND_SPELL, name) : -1);
+            }
+
+            long[] words = learned.toLongArray();
+            int length = 8 + 8 + 4 + 2 + 2 + words.length * 8 + BIND_SLOTS * 2 + 8;
+            int offset = reserve(length);
+
+            int pos = offset + RECORD_HEADER_SIZE;
+            buffer.putLong(pos, uuid.getMostSignificantBits());
+            buffer.putLong(pos + 8, uuid.getLeastSignificantBits());
+            buffer.putInt(pos + 16, data.magic() != null ? data.magic() : -1);
+            buffer.putShort(pos + 20, (short) house);
+            buffer.putShort(pos + 22, (short) words.length);
+            pos += 24;
+            for (long word : words) {
+                buffer.putLong(pos, word);
+                pos += 8;
+            }
+            for (short bind : binds) {
+                buffer.putShort(pos, bind);
+                pos += 2;
+            }
+            buffer.putLong(pos, data.magicUpdated());
+            commit(offset, TYPE_PLAYER, length);
+
+            Integer previous = index.put(uuid, offset);
+            if (previous != null) wasted += recordSize(previous);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long sizeOf(UUID uuid) {
+        lock.readLock().lock();
+        try {
+            Integer offset = index.get(uuid);
+            return offset != null ? recordSize(offset) : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<UUID> getStoredPlayers() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(index.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void maintain() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (wasted > MIN_COMPACT_WASTE && wasted > end / 2) compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (channel == null) {
+                releaseFileLock();
+                return;
+            }
+            try {
+                buffer.force();
+                // Trim the unused tail so the file only holds records
+                channel.truncate(end);
+            } finally {
+                channel.close();
+                channel = null;
+                releaseFileLock();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the lock file guarding a segment file
+     */
+    static Path lockFileOf(Path file) {
+        return file.resolveSibling(file.getFileName() + ".lock");
+    }
+
+    private void open() throws IOException {
+        // Kept across the reopen after compaction, so the file is never left unlocked
+        if (fileLock == null) acquireFileLock();
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean empty = channel.size() == 0;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(INITIAL_CAPACITY, channel.size()));
+
+        index.clear();
+        spellNames.clear();
+        houseNames.clear();
+        spellIds.clear();
+        houseIds.clear();
+        wasted = 0;
+
+        if (empty) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            end = HEADER_SIZE;
+            return;
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a SpellCraft player data file");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported player data version " + buffer.getInt(4) + " in " + file);
+        }
+
+        scan();
+    }
+
+    private void acquireFileLock() throws IOException {
+        lockChannel = FileChannel.open(lockFileOf(file), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            fileLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            fileLock = null;
+        }
+
+        if (fileLock == null) {
+            lockChannel.close();
+            lockChannel = null;
+            throw new IOException(file + " is already in use by another server or plugin instance."
+                    + " The binary player store can only be used by one server at a time,"
+                    + " use storage.type: yaml for a data folder shared between servers");
+        }
+    }
+
+    private void releaseFileLock() throws IOException {
+        if (lockChannel == null) return;
+        // Closing the channel releases the lock
+        lockChannel.close();
+        lockChannel = null;
+        fileLock = null;
+    }
+
+    /** Rebuilds the index and dictionaries from the segment */
+    private void scan() {
+        int pos = HEADER_SIZE;
+        int capacity = buffer.capacity();
+
+        while (pos + RECORD_HEADER_SIZE <= capacity) {
+            byte type = buffer.get(pos);
+            if (type == TYPE_END) break;
+
+            int length = buffer.getInt(pos + 1);
+            if (length < 0 || pos + RECORD_HEADER_SIZE + length > capacity) break;
+
+            int payload = pos + RECORD_HEADER_SIZE;
+            if (type == TYPE_NAME) {
+                byte kind = buffer.get(payload);
+                String name = readString(payload + 3);
+                // Ids are assigned in order, so they match the list position
+                dictionary(kind).add(name);
+                ids(kind).put(name, dictionary(kind).size() - 1);
+            } else if (type == TYPE_PLAYER) {
+                UUID uuid = new UUID(buffer.getLong(payload), buffer.getLong(payload + 8));
+                Integer previous = index.put(uuid, pos);
+                if (previous != null) wasted += recordSize(previous);
+            }
+
+            pos = payload + length;
+        }
+        end = pos;
+    }
+
+    private PlayerData decode(int pos, int length) {
+        int recordEnd = pos + length;
+        int magic = buffer.getInt(pos + 16);
+        int house = buffer.getShort(pos + 20);
+        int words = buffer.getShort(pos + 22);
+        pos += 24;
+
+        long[] bits = new long[words];
+        for (int i = 0; i < words; i++) {
+            bits[i] = buffer.getLong(pos);
+            pos += 8;
+        }
+
+        List<String> learned = new ArrayList<>();
+        BitSet set = BitSet.valueOf(bits);
+        for (int id = set.nextSetBit(0); id >= 0; id = set.nextSetBit(id + 1)) {
+            learned.add(spellNames.get(id));
+        }
+
+        String[] binds = new String[BIND_SLOTS];
+        for (int i = 0; i < BIND_SLOTS; i++) {
+            int id = buffer.getShort(pos);
+            if (id >= 0) binds[i] = spellNames.get(id);
+            pos += 2;
+        }
+        long magicUpdated = pos + 8 <= recordEnd ? buffer.getLong(pos) : 0L;
+
+        return new PlayerData(
+                true,
+                magic >= 0 ? magic : null,
+                magicUpdated,
+                house >= 0 ? houseNames.get(house) : null,
+                List.copyOf(learned),
+                binds
+        );
+    }
+
+    /** Returns the id of a name, appending a NAME record the first time it is seen */
+    private int nameId(byte kind, String name) throws IOException {
+        Integer id = ids(kind).get(name);
+        if (id != null) return id;
+
+        List<String> names = dictionary(kind);
+        if (names.size() >= Short.MAX_VALUE) throw new IOException("Too many names in " + file);
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = 1 + 2 + 2 + bytes.length;
+        int offset = reserve(length);
+
+        int pos = offset + RECORD_HEADER_SIZE;
+        buffer.put(pos, kind);
+        buffer.putShort(pos + 1, (short) names.size());
+        buffer.putShort(pos + 3, (short) bytes.length);
+        buffer.put(pos + 5, bytes);
+        commit(offset, TYPE_NAME, length);
+
+        names.add(name);
+        ids(kind).put(name, names.size() - 1);
+        return names.size() - 1;
+    }
+
+    /** Reserves space for a record at the end of the segment and returns its offset */
+    private int reserve(int length) throws IOException {
+        if (channel == null) throw new IOException(file + " is closed");
+        int size = RECORD_HEADER_SIZE + length;
+        // Leave room for the end marker after the record
+        if (end + size + 1 > buffer.capacity()) {
+            long capacity = Math.max((long) buffer.capacity() * 2, end + size + 1L);
+            if (capacity > Integer.MAX_VALUE) throw new IOException(file + " is full");
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        return end;
+    }
+
+    /** Publishes a record written after {@link #reserve} */
+    private void commit(int offset, byte type, int length) {
+        buffer.putInt(offset + 1, length);
+        buffer.put(offset + RECORD_HEADER_SIZE + length, TYPE_END);
+        buffer.put(offset, type);
+        end = offset + RECORD_HEADER_SIZE + length;
+    }
+
+    /** Rewrites the segment with the dictionaries and the latest record of every player */
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        int live = 0;
+        for (int offset : index.values()) live += recordSize(offset);
+
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int nameBytes = 0;
+            for (String name : spellNames) nameBytes += RECORD_HEADER_SIZE + 5 + name.getBytes(StandardCharsets.UTF_8).length;
+            for (String name : houseNames) nameBytes += RECORD_HEADER_SIZE + 5 + name.getBytes(StandardCharsets.UTF_8).length;
+
+            MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, 0,
+                    Math.max(INITIAL_CAPACITY, HEADER_SIZE + nameBytes + live + 1));
+            target.putInt(0, MAGIC);
+            target.putInt(4, VERSION);
+            int pos = HEADER_SIZE;
+
+            // Ids are the list positions, so the names can be rewritten in order
+            pos = writeNames(target, pos, KIND_SPELL, spellNames);
+            pos = writeNames(target, pos, KIND_HOUSE, houseNames);
+
+            for (int offset : index.values()) {
+                int size = recordSize(offset);
+                target.put(pos, buffer, offset, size);
+                pos += size;
+            }
+            target.force();
+            out.truncate(Math.max(pos, INITIAL_CAPACITY));
+        }
+
+        // The current segment stays open until the new one is in place
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Windows refuses to replace a mapped file, keep using the current segment
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            // Only try again once as much space is wasted again
+            wasted = 0;
+            throw new IOException("Could not compact " + file + ", continuing with the current file", e);
+        }
+
+        channel.close();
+        channel = null;
+        try {
+            open();
+        } catch (IOException e) {
+            // Refuse further writes instead of writing to a segment that was not read back
+            if (channel != null) channel.close();
+            channel = null;
+            throw e;
+        }
+    }
+
+    private int writeNames(MappedByteBuffer target, int pos, byte kind, List<String> names) {
+        for (int id = 0; id < names.size(); id++) {
+            byte[] bytes = names.get(id).getBytes(StandardCharsets.UTF_8);
+            target.putInt(pos + 1, 5 + bytes.length);
+            target.put(pos + 5, kind);
+            target.putShort(pos + 6, (short) id);
+            target.putShort(pos + 8, (short) bytes.length);
+            target.put(pos + 10, bytes);
+            target.put(pos, TYPE_NAME);
+            pos += RECORD_HEADER_SIZE + 5 + bytes.length;
+        }
+        return pos;
+    }
+
+    private int recordSize(int offset) {
+        return RECORD_HEADER_SIZE + buffer.getInt(offset + 1);
+    }
+
+    private String readString(int pos) {
+        byte[] bytes = new byte[buffer.getShort(pos)];
+        buffer.get(pos + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<String> dictionary(byte kind) {
+        return kind == KIND_HOUSE ? houseNames : spellNames;
+    }
+
+    private Map<String, Integer> ids(byte kind) {
+        return kind == KIND_HOUSE ? houseIds : spellIds;
+    }
+}
@@ -0,0 +1,26 @@
+package com.spellcraft.core.data;
+
+import java.util.List;
+
+/**
+ * Stored player data as read from disk, before it is applied to a caster.
+ * <p>
+ * Reading produces this on an IO thread. Spells are kept by name so it can be built
+ * without touching the spell registry, and resolved when applied on the player's thread.
+ *
+ * @param exists        whether the player had saved data
+ * @param magic         the saved magic, or null to start full
+ * @param magicUpdated  wall-clock millis at which the saved magic was current, 0 if unknown
+ * @param house         the saved house name, or null
+ * @param learnedSpells names of the learned spells
+ * @param binds         spell names bound to each hotbar slot, null for empty slots
+ */
+public record PlayerData(boolean exists, Integer magic, long magicUpdated, String house, List<String> learnedSpells, String[] binds) {
+
+    /**
+     * @return data for a player that has never been saved
+     */
+    public static PlayerData empty() {
+        return new PlayerData(false, null, 0L, null, List.of(), new String[9]);
+    }
+}
@@ -5,118 +5,349 @@ import com.spellcraft.api.Spell;
 import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.house.House;
 import com.spellcraft.api.magic.MagicElement;
+import com.spellcraft.api.SpellManager;
 import com.spellcraft.core.SpellCasterImpl;
+import com.spellcraft.core.jfr.PlayerDataEvent;
 import com.spellcraft.util.HouseUtil;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.YamlConfiguration;
+import com.spellcraft.util.ThreadUtil;
+import com.spellcraft.util.TickClock;
 import org.bukkit.entity.Player;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 public class PlayerDataManager {
 
     private final SpellCraftPlugin plugin;
-    private final File playerFolder;
+    private final PlayerStore store;
+    private ThreadUtil.ThreadTask maintenanceTask;
 
     private static final ExecutorService IO_EXECUTOR =
-            Executors.newSingleThreadExecutor(r -> {
+            Executors.newFixedThreadPool(2, r -> {
                 Thread t = new Thread(r, "SpellCraft-PlayerIO");
                 t.setDaemon(true);
                 return t;
             });
 
-    public PlayerDataManager(SpellCraftPlugin plugin) {
+    private static final ExecutorService LOAD_EXECUTOR =
+            Executors.newFixedThreadPool(4, r -> {
+                Thread t = new Thread(r, "SpellCraft-PlayerLoad");
+                t.setDaemon(true);
+                return t;
+            });
+
+    /** Preloads older than this are read again when claimed, another server may have saved since */
+    private static final long PRELOAD_TIMEOUT_MILLIS = 10_000;
+
+    /** Loads started before join, waiting to be claimed by the caster */
+    private final Map<UUID, Preload> pendingLoads = new ConcurrentHashMap<>();
+    /** The latest queued write per player, loads and later writes of the player wait for it */
+    private final Map<UUID, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
+    /** Snapshots waiting for the IO thread, a repeated save replaces the queued snapshot */
+    private final Map<UUID, PlayerSnapshot> queuedSnapshots = new ConcurrentHashMap<>();
+
+    public PlayerDataManager(SpellCraftPlugin plugin) throws IOException {
         this.plugin = plugin;
-        this.playerFolder = new File(plugin.getDataFolder(), "players");
 
-        if (!playerFolder.exists() && !playerFolder.mkdirs()) {
-            plugin.getLogger().severe("Failed to create player data folder!");
+        File playerFolder = new File(plugin.getDataFolder(), "players");
+        String type = plugin.getConfig().getString("storage.type", "yaml");
+
+        if (type.equalsIgnoreCase("binary")) {
+            File file = new File(plugin.getDataFolder(), "players.dat");
+            if (!file.exists() && playerFolder.isDirectory()) migrate(new YamlPlayerStore(playerFolder), file);
+
+            store = new BinaryPlayerStore(file);
+
+            long interval = plugin.getConfig().getLong("storage.compaction-interval", 10) * 60 * 20;
+            maintenanceTask = ThreadUtil.runAsyncTimer(this::maintain, interval, interval, "Player Data Maintenance");
+        } else {
+            store = new YamlPlayerStore(playerFolder);
         }
     }
 
-    public File getPlayerFile(UUID uuid) {
-        return new File(playerFolder, uuid.toString() + ".yml");
+    /**
+     * Starts reading a player's data in the background, typically during pre-login.
+     * The read waits for any queued write of the same player, so it never sees stale data.
+     * Calling this again before the result is claimed does nothing. Preloads that are never
+     * claimed, e.g. when the connection dropped before login, are dropped once they time out.
+     */
+    public void preload(UUID uuid) {
+        long now = System.currentTimeMillis();
+        pendingLoads.values().removeIf(preload -> preload.isExpired(now));
+        pendingLoads.computeIfAbsent(uuid, id -> new Preload(load(id), now));
     }
 
-    /** Load player data and apply defaults if necessary */
-    public SpellCaster load(Player player) {
-        File file = getPlayerFile(player.getUniqueId());
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+    /** Reads a player's data on the load pool once any queued write of the player is done */
+    private CompletableFuture<PlayerData> load(UUID uuid) {
+        return pendingWrites.getOrDefault(uuid, CompletableFuture.completedFuture(null))
+                .handle((ignored, error) -> null)
+                .thenApplyAsync(ignored -> read(uuid), LOAD_EXECUTOR);
+    }
 
-        int maxMagic = plugin.getConfig().getInt("magic.max", 100);
-        SpellCasterImpl caster = new SpellCasterImpl(player, maxMagic);
+    /** Drops a preload that will not be claimed, e.g. when the login was denied */
+    public void discardPreload(UUID uuid) {
+        pendingLoads.remove(uuid);
+    }
 
-        caster.setMagic(config.getInt("magic", maxMagic));
+    /**
+     * Takes the preloaded data of a player, starting the load now if it was not preloaded.
+     * The returned future completes on an IO thread.
+     */
+    public CompletableFuture<PlayerData> claim(UUID uuid) {
+        Preload preload = pendingLoads.remove(uuid);
+        if (preload == null || preload.isExpired(System.currentTimeMillis())) return load(uuid);
+        return preload.data;
+    }
+
+    /** Reads player data from the store. Does not touch any game state, so it is safe off-thread */
+    private PlayerData read(UUID uuid) {
+        PlayerDataEvent event = new PlayerDataEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            PlayerData data = store.read(uuid);
+            succeeded = true;
+            return data;
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        } finally {
+            if (event.isEnabled()) {
+                event.complete(PlayerDataEvent.LOAD, uuid, store.sizeOf(uuid), pendingLoads.size(), succeeded);
+            }
+        }
+    }
+
+    /**
+     * Applies loaded data to a caster and marks it ready.
+     * Must run on the player's thread.
+     */
+    public void apply(SpellCasterImpl caster, PlayerData data) {
+        SpellManager registry = plugin.getSpellManager();
 
         // Load house
-        String houseName = config.getString("house");
+        String houseName = data.house();
         if (houseName != null) {
             try {
                 caster.setHouse(House.of(houseName));
             } catch (IllegalArgumentException ex) {
                 plugin.getLogger().warning(
-                        "Invalid house '" + houseName + "' for " + player.getName()
+                        "Invalid house '" + houseName + "' for " + caster.getPlayer().getName()
                 );
                 caster.setHouse(null);
             }
         }
 
-        ConfigurationSection learned = config.getConfigurationSection("learned-spells");
-        if (learned != null) {
-            caster.loadLearnedSpells(learned, plugin.getSpellManager());
+        for (String name : data.learnedSpells()) {
+            registry.getSpell(name).ifPresent(caster::learnSpell);
+        }
+
+        String[] binds = data.binds();
+        for (int slot = 0; slot < binds.length; slot++) {
+            if (binds[slot] == null) continue;
+
+            int bindSlot = slot;
+            registry.getSpell(binds[slot])
+                    .filter(caster::hasLearnedSpell)
+                    .ifPresent(spell -> caster.bindSpell(bindSlot, spell));
         }
 
-        ConfigurationSection binds = config.getConfigurationSection("binds");
-        if (binds != null) {
-            caster.loadBinds(binds, plugin.getSpellManager());
+        // Load magic after the house, offline regen depends on its perks
+        if (data.magic() != null) {
+            long elapsed = 0;
+            if (data.magicUpdated() > 0 && plugin.getConfig().getBoolean("magic.offline-regen", true)) {
+                elapsed = TickClock.toTicks(Math.max(0, System.currentTimeMillis() - data.magicUpdated()));
+            }
+            caster.restoreMagic(data.magic(), elapsed);
+        } else {
+            caster.setMagic(caster.getMaxMagic());
         }
 
         autoUnbindInvalidSpells(caster);
+        caster.markReady(data.exists());
 
-        if (!file.exists()) {
+        if (!data.exists()) {
             saveAsync(caster);
         }
-
-        return caster;
     }
 
-    /** Save player data synchronously */
+    /**
+     * Save player data synchronously, waiting for the IO thread.
+     * Must be called from the player's thread.
+     */
     public void save(SpellCaster caster) {
-        PlayerSnapshot snapshot = PlayerSnapshot.capture(caster);
-        writeSnapshot(snapshot);
+        if (!needsSave(caster)) return;
+        queueWrite(PlayerSnapshot.capture(caster, plugin.getSpellManager())).join();
     }
 
-    /** Save player data asynchronously (non blocking) */
+    /**
+     * Save player data asynchronously (non blocking).
+     * The snapshot is taken on the player's thread, everything else runs on the IO pool.
+     * Casters without unsaved changes are skipped, and saving a player that already has a
+     * write queued only replaces the queued snapshot.
+     */
     public void saveAsync(SpellCaster caster) {
-        PlayerSnapshot snapshot = PlayerSnapshot.capture(caster);
-        IO_EXECUTOR.execute(() -> writeSnapshot(snapshot));
+        if (!needsSave(caster)) return;
+
+        Player player = caster.getPlayer();
+        if (!player.isOnline()) {
+            // Nothing changes an offline caster, so any thread may take the snapshot
+            queueWrite(PlayerSnapshot.capture(caster, plugin.getSpellManager()));
+            return;
+        }
+
+        ThreadUtil.ensureEntity(player, () -> queueWrite(PlayerSnapshot.capture(caster, plugin.getSpellManager())));
     }
 
-    private void writeSnapshot(PlayerSnapshot snapshot) {
-        File file = getPlayerFile(snapshot.uuid);
-        YamlConfiguration config = new YamlConfiguration();
+    /**
+     * Queues a save with the snapshot taken on the calling thread.
+     * Only for shutdown, when the player's thread may never run a scheduled snapshot.
+     */
+    public void saveNow(SpellCaster caster) {
+        if (!needsSave(caster)) return;
+        queueWrite(PlayerSnapshot.capture(caster, plugin.getSpellManager()));
+    }
 
-        config.set("magic", snapshot.magic);
-        config.set("house", snapshot.house != null ? snapshot.house.getName() : null);
+    private boolean needsSave(SpellCaster caster) {
+        // Data that never finished loading must not overwrite the file
+        if (!caster.isReady()) return false;
+        return !(caster instanceof SpellCasterImpl impl) || impl.isDirty();
+    }
+
+    private CompletableFuture<Void> queueWrite(PlayerSnapshot snapshot) {
+        UUID uuid = snapshot.uuid;
 
-        ConfigurationSection learned = config.createSection("learned-spells");
-        snapshot.saveLearnedSpells(learned);
+        if (queuedSnapshots.put(uuid, snapshot) != null) {
+            // The queued write picks up the newer snapshot
+            return pendingWrites.getOrDefault(uuid, CompletableFuture.completedFuture(null));
+        }
 
-        ConfigurationSection binds = config.createSection("binds");
-        snapshot.saveBinds(binds);
+        // Writes of one player run in order, different players are written in parallel
+        CompletableFuture<Void> write = pendingWrites.compute(uuid, (id, previous) ->
+                (previous != null ? previous : CompletableFuture.<Void>completedFuture(null))
+                        .handle((ignored, error) -> null)
+                        .thenRunAsync(() -> {
+                            PlayerSnapshot latest = queuedSnapshots.remove(id);
+                            if (latest != null) writeSnapshot(latest);
+                        }, IO_EXECUTOR));
+
+        write.whenComplete((ignored, error) -> pendingWrites.remove(uuid, write));
+        return write;
+    }
 
+    private void writeSnapshot(PlayerSnapshot snapshot) {
+        PlayerDataEvent event = new PlayerDataEvent();
+        event.begin();
+        boolean succeeded = false;
         try {
-            config.save(file);
+            store.write(snapshot.uuid, snapshot.toData(plugin.getSpellManager()));
+            if (snapshot.owner != null) snapshot.owner.markSaved(snapshot.version);
+            succeeded = true;
         } catch (IOException e) {
             plugin.getLogger().severe(
                     "Failed to save player data for " + snapshot.name
             );
             e.printStackTrace();
+        } finally {
+            if (event.isEnabled()) {
+                event.complete(PlayerDataEvent.SAVE, snapshot.uuid, store.sizeOf(snapshot.uuid), queuedSnapshots.size(), succeeded);
+            }
+        }
+    }
+
+    /**
+     * Captures the persisted state of a caster as a save does, and resolves it to
+     * {@link PlayerData}. Must be called from the player's thread.
+     *
+     * @param caster the caster to capture
+     * @param registry the registry resolving spell ids to names
+     * @return the data a save would write for the caster
+     */
+    public static PlayerData snapshot(SpellCaster caster, SpellManager registry) {
+        return PlayerSnapshot.capture(caster, registry).toData(registry);
+    }
+
+    /** Runs store maintenance, such as compaction, on the IO pool */
+    private void maintain() {
+        IO_EXECUTOR.execute(() -> {
+            try {
+                store.maintain();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Player data maintenance failed", e);
+            }
+        });
+    }
+
+    /**
+     * Waits for queued writes and closes the store.
+     * Called on disable, after the final saves were queued.
+     */
+    public void shutdown() {
+        if (maintenanceTask != null) maintenanceTask.cancel();
+
+        try {
+            CompletableFuture.allOf(pendingWrites.values().toArray(CompletableFuture[]::new))
+                    .handle((ignored, error) -> null)
+                    .thenRunAsync(() -> {
+                        try {
+                            store.close();
+                        } catch (IOException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, IO_EXECUTOR)
+                    .get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to close player data store", e);
+        }
+    }
+
+    /**
+     * Copies every player from a store into a new binary store file.
+     * The copy is written to a temporary file and moved into place once complete, so a start
+     * that fails or is killed partway runs the whole migration again next time.
+     */
+    private void migrate(PlayerStore from, File file) throws IOException {
+        Set<UUID> players = from.getStoredPlayers();
+        if (players.isEmpty()) return;
+
+        Path target = file.toPath();
+        // A copy left by an interrupted start is reused, every player is written again on top of it
+        Path temp = target.resolveSibling(file.getName() + ".migrating");
+
+        plugin.getLogger().info("Migrating " + players.size() + " players to the binary player store...");
+        int failed = 0;
+        BinaryPlayerStore to = new BinaryPlayerStore(temp.toFile());
+        try {
+            for (UUID uuid : players) {
+                try {
+                    to.write(uuid, from.read(uuid));
+                } catch (IOException e) {
+                    failed++;
+                    plugin.getLogger().warning("Skipped player data of " + uuid + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            to.close();
         }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        Files.deleteIfExists(BinaryPlayerStore.lockFileOf(temp));
+        plugin.getLogger().info("Migrated " + (players.size() - failed) + " players, the YAML files were left in place.");
     }
 
     /** Unbinds any spell that the player's house cannot use */
@@ -135,32 +366,84 @@ public class PlayerDataManager {
         }
     }
 
+    /** A load started before join, with the time it started */
+    private record Preload(CompletableFuture<PlayerData> data, long startedMillis) {
+
+        boolean isExpired(long now) {
+            return now - startedMillis > PRELOAD_TIMEOUT_MILLIS;
+        }
+    }
+
+    /**
+     * Immutable copy of the persisted state of a caster, taken on the player's thread.
+     * Spells are kept as registry ids, so serializing never touches the live caster.
+     */
     private static final class PlayerSnapshot {
 
         final UUID uuid;
         final String name;
+        final long version;
         final int magic;
-        final House house;
-        final SpellCaster caster;
-
-        private PlayerSnapshot(SpellCaster caster) {
-            this.caster = caster;
+        final long magicUpdated;
+        final String house;
+        final int[] learned;
+        final int[] binds;
+        /** Only used to record the saved version once written */
+        final SpellCasterImpl owner;
+
+        private PlayerSnapshot(SpellCaster caster, SpellManager registry) {
+            // Read the version first, a change made while copying then keeps the caster dirty
+            this.owner = caster instanceof SpellCasterImpl impl ? impl : null;
+            this.version = owner != null ? owner.getVersion() : 0;
             this.uuid = caster.getUUID();
             this.name = caster.getPlayer().getName();
-            this.magic = caster.getMagic();
-            this.house = caster.getHouse();
-        }
+            // Store the regen base, so the magic regenerated since then is derived again on load
+            if (owner != null) {
+                this.magic = owner.getMagicBase();
+                this.magicUpdated = owner.getMagicBaseMillis();
+            } else {
+                this.magic = caster.getMagic();
+                this.magicUpdated = System.currentTimeMillis();
+            }
+            this.house = caster.hasHouse() ? caster.getHouse().getName() : null;
+
+            if (owner != null) {
+                this.learned = owner.getLearnedSpellIds();
+            } else {
+                List<Spell> learnedSpells = caster.getLearnedSpells();
+                int[] learned = new int[learnedSpells.size()];
+                int count = 0;
+                for (Spell spell : learnedSpells) {
+                    int id = registry.getSpellId(spell);
+                    if (id >= 0) learned[count++] = id;
+                }
+                this.learned = Arrays.copyOf(learned, count);
+            }
 
-        static PlayerSnapshot capture(SpellCaster caster) {
-            return new PlayerSnapshot(caster);
+            Spell[] bound = caster.getBoundSpells();
+            this.binds = new int[bound.length];
+            for (int i = 0; i < bound.length; i++) {
+                binds[i] = registry.getSpellId(bound[i]);
+            }
         }
 
-        void saveLearnedSpells(ConfigurationSection section) {
-            caster.saveLearnedSpells(section);
+        static PlayerSnapshot capture(SpellCaster caster, SpellManager registry) {
+            return new PlayerSnapshot(caster, registry);
         }
 
-        void saveBinds(ConfigurationSection section) {
-            caster.saveBinds(section);
+        /** Resolves the spell ids to names, safe on any thread */
+        PlayerData toData(SpellManager registry) {
+            List<String> learnedNames = new ArrayList<>(learned.length);
+            for (int id : learned) {
+                registry.getSpell(id).ifPresent(spell -> learnedNames.add(spell.getName()));
+            }
+
+            String[] bindNames = new String[binds.length];
+            for (int i = 0; i < binds.length; i++) {
+                bindNames[i] = registry.getSpell(binds[i]).map(Spell::getName).orElse(null);
+            }
+
+            return new PlayerData(true, magic, magicUpdated, house, List.copyOf(learnedNames), bindNames);
         }
     }
 }
@@ -0,0 +1,61 @@
+package com.spellcraft.core.data;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Storage backend for {@link PlayerData}.
+ * <p>
+ * Implementations must allow reads from several threads at once. Writes come from a
+ * single IO thread, but may run concurrently with reads.
+ */
+public interface PlayerStore {
+
+    /**
+     * Reads a player's stored data.
+     *
+     * @param uuid the player's {@link UUID}
+     * @return the stored data, or {@link PlayerData#empty()} if nothing was stored
+     * @throws IOException if the data exists but cannot be read
+     */
+    PlayerData read(UUID uuid) throws IOException;
+
+    /**
+     * Stores a player's data, replacing anything stored before.
+     *
+     * @param uuid the player's {@link UUID}
+     * @param data the data to store
+     * @throws IOException if the data cannot be written
+     */
+    void write(UUID uuid, PlayerData data) throws IOException;
+
+    /**
+     * @return the {@link UUID}s of all players with stored data
+     * @throws IOException if the store cannot be listed
+     */
+    Set<UUID> getStoredPlayers() throws IOException;
+
+    /**
+     * Reports how much space a player's data takes in the store, for diagnostics.
+     *
+     * @return the stored size in bytes, 0 if the player has no data, -1 if unknown
+     */
+    default long sizeOf(UUID uuid) {
+        return -1;
+    }
+
+    /**
+     * Runs periodic maintenance, such as compaction. Called from the IO thread.
+     *
+     * @throws IOException if maintenance fails, the store must stay usable
+     */
+    default void maintain() throws IOException {}
+
+    /**
+     * Flushes and releases the store.
+     *
+     * @throws IOException if flushing fails
+     */
+    default void close() throws IOException {}
+}
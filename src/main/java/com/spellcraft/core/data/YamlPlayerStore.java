@@ -0,0 +1,108 @@
+package com.spellcraft.core.data;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * {@link PlayerStore} keeping one {@code players/<uuid>.yml} file per player.
+ */
+public class YamlPlayerStore implements PlayerStore {
+
+    private final File playerFolder;
+
+    public YamlPlayerStore(File playerFolder) throws IOException {
+        this.playerFolder = playerFolder;
+
+        if (!playerFolder.exists() && !playerFolder.mkdirs()) {
+            throw new IOException("Failed to create player data folder " + playerFolder);
+        }
+    }
+
+    public File getPlayerFile(UUID uuid) {
+        return new File(playerFolder, uuid.toString() + ".yml");
+    }
+
+    @Override
+    public PlayerData read(UUID uuid) throws IOException {
+        File file = getPlayerFile(uuid);
+        if (!file.exists()) return PlayerData.empty();
+
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("Invalid player data file " + file.getName(), e);
+        }
+
+        List<String> learned = List.of();
+        ConfigurationSection learnedSection = config.getConfigurationSection("learned-spells");
+        if (learnedSection != null) {
+            learned = List.copyOf(learnedSection.getStringList("list"));
+        }
+
+        String[] binds = new String[9];
+        ConfigurationSection bindSection = config.getConfigurationSection("binds");
+        if (bindSection != null) {
+            for (String key : bindSection.getKeys(false)) {
+                if (!key.matches("\\d+")) continue;
+
+                int slot = Integer.parseInt(key);
+                if (slot < binds.length) binds[slot] = bindSection.getString(key);
+            }
+        }
+
+        Integer magic = config.isInt("magic") ? config.getInt("magic") : null;
+        long magicUpdated = config.getLong("magic-updated", 0L);
+        return new PlayerData(true, magic, magicUpdated, config.getString("house"), learned, binds);
+    }
+
+    @Override
+    public void write(UUID uuid, PlayerData data) throws IOException {
+        YamlConfiguration config = new YamlConfiguration();
+
+        config.set("magic", data.magic());
+        if (data.magicUpdated() > 0) config.set("magic-updated", data.magicUpdated());
+        config.set("house", data.house());
+
+        ConfigurationSection learned = config.createSection("learned-spells");
+        learned.set("list", data.learnedSpells());
+
+        ConfigurationSection binds = config.createSection("binds");
+        String[] bound = data.binds();
+        for (int i = 0; i < bound.length; i++) {
+            binds.set(String.valueOf(i), bound[i]);
+        }
+
+        config.save(getPlayerFile(uuid));
+    }
+
+    @Override
+    public long sizeOf(UUID uuid) {
+        return getPlayerFile(uuid).length();
+    }
+
+    @Override
+    public Set<UUID> getStoredPlayers() {
+        Set<UUID> players = new HashSet<>();
+
+        File[] files = playerFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (files == null) return players;
+
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                players.add(UUID.fromString(name.substring(0, name.length() - 4)));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return players;
+    }
+}
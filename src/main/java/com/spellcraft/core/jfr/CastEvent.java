@@ -0,0 +1,43 @@
+package com.spellcraft.core.jfr;
+
+import com.spellcraft.api.SpellResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event covering one {@code SpellCaster.castSpell} attempt,
+ * including the spell's execute.
+ */
+@Name("com.spellcraft.SpellCast")
+@Label("Spell Cast")
+@Category({"SpellCraft", "Spells"})
+@Description("A player casting a spell, from precondition checks to execute")
+@StackTrace(false)
+public class CastEvent extends jdk.jfr.Event {
+
+    @Label("Spell")
+    String spell;
+
+    @Label("Caster")
+    String caster;
+
+    @Label("Result")
+    String result;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     * The fields are only filled in when the event will actually be written.
+     */
+    public void complete(String spell, String caster, SpellResult result) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.spell = spell;
+        this.caster = caster;
+        this.result = result != null ? result.name() : null;
+        commit();
+    }
+}
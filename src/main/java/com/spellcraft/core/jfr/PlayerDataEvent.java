@@ -0,0 +1,58 @@
+package com.spellcraft.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Flight recorder event covering one player data load or save on an IO thread.
+ */
+@Name("com.spellcraft.PlayerData")
+@Label("Player Data IO")
+@Category({"SpellCraft", "Storage"})
+@Description("Reading or writing one player's stored data")
+@StackTrace(false)
+public class PlayerDataEvent extends jdk.jfr.Event {
+
+    public static final String LOAD = "load";
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Player")
+    String player;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Queue Depth")
+    @Description("Other loads or saves waiting when this one finished")
+    int queueDepth;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     *
+     * @param bytes stored size of the player's data, -1 if unknown
+     */
+    public void complete(String operation, UUID player, long bytes, int queueDepth, boolean succeeded) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.operation = operation;
+        this.player = player.toString();
+        this.bytes = bytes;
+        this.queueDepth = queueDepth;
+        this.succeeded = succeeded;
+        commit();
+    }
+}
@@ -0,0 +1,37 @@
+package com.spellcraft.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event covering one {@code progress()} call of an active spell.
+ */
+@Name("com.spellcraft.SpellProgress")
+@Label("Spell Progress")
+@Category({"SpellCraft", "Spells"})
+@Description("One tick of an active spell")
+@StackTrace(false)
+public class ProgressEvent extends jdk.jfr.Event {
+
+    @Label("Spell")
+    String spell;
+
+    @Label("Removed")
+    @Description("Whether the spell finished during this tick")
+    boolean removed;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     */
+    public void complete(String spell, boolean removed) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.spell = spell;
+        this.removed = removed;
+        commit();
+    }
+}
@@ -0,0 +1,40 @@
+package com.spellcraft.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event covering temporary block changes, one event per batch of blocks.
+ */
+@Name("com.spellcraft.TempBlock")
+@Label("Temp Block Churn")
+@Category({"SpellCraft", "World"})
+@Description("Temporary blocks placed or reverted in one go")
+@StackTrace(false)
+public class TempBlockEvent extends jdk.jfr.Event {
+
+    public static final String CREATE = "create";
+    public static final String REVERT = "revert";
+    public static final String APPLY = "apply";
+
+    @Label("Action")
+    String action;
+
+    @Label("Blocks")
+    int blocks;
+
+    /**
+     * Ends the event and commits it if it is being recorded.
+     */
+    public void complete(String action, int blocks) {
+        end();
+        if (!shouldCommit()) return;
+
+        this.action = action;
+        this.blocks = blocks;
+        commit();
+    }
+}
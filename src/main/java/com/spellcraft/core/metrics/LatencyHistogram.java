@@ -0,0 +1,94 @@
+package com.spellcraft.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds with power-of-two buckets.
+ * <p>
+ * Bucket {@code b} counts durations in {@code [2^(b-1), 2^b)}, so recording is a leading-zero
+ * count and one atomic increment. Percentiles are accurate to within a factor of two, which
+ * is enough to tell a 50µs spell from a 2ms one.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos the duration in nanoseconds, negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /** Clears all recorded durations. */
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /** @return the number of recorded durations */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /** @return the sum of all recorded durations in nanoseconds */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /** @return the longest recorded duration in nanoseconds */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /** @return the mean recorded duration in nanoseconds, 0 if empty */
+    public long getMeanNanos() {
+        long n = getCount();
+        return n == 0 ? 0 : getTotalNanos() / n;
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket containing it,
+     * capped at the recorded maximum.
+     *
+     * @param percentile between 0 and 100
+     * @return the estimated duration in nanoseconds, 0 if empty
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(total * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank && snapshot[i] > 0) {
+                long upper = i == 0 ? 0 : i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+                return Math.min(upper, getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+}
@@ -0,0 +1,152 @@
+package com.spellcraft.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Performance metrics of one spell, shared by all its casts.
+ * <p>
+ * Records how long casting takes, how long each {@code progress()} call takes, how many
+ * instances are active and how often the spell is cast. Everything is updated without
+ * locks, so recording from several region threads never blocks a tick.
+ */
+public final class SpellMetrics {
+
+    /** Seconds covered by the casts-per-second window. */
+    private static final int RATE_WINDOW = 10;
+    /** Low bits of a rate slot holding its count, the bits above hold the second it counts */
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long START = System.nanoTime();
+
+    private final String spellName;
+
+    private final LatencyHistogram castTime = new LatencyHistogram();
+    private final LatencyHistogram progressTime = new LatencyHistogram();
+    private final LongAdder casts = new LongAdder();
+    private final LongAdder failedCasts = new LongAdder();
+    private final LongAdder active = new LongAdder();
+
+    /** Ring of per-second cast counts, each slot packing the second it counts and the count */
+    private final AtomicLongArray rate = new AtomicLongArray(RATE_WINDOW);
+
+    SpellMetrics(String spellName) {
+        this.spellName = spellName;
+    }
+
+    /**
+     * Records one cast attempt.
+     *
+     * @param nanos time spent casting, including the spell's execute
+     * @param success whether the cast succeeded
+     */
+    public void recordCast(long nanos, boolean success) {
+        castTime.record(nanos);
+        if (!success) {
+            failedCasts.increment();
+            return;
+        }
+
+        casts.increment();
+
+        long second = second();
+        int slot = (int) (second % RATE_WINDOW);
+        // Stamp and count change in one CAS, so a slot moving to a new second never drops a cast
+        long packed, next;
+        do {
+            packed = rate.get(slot);
+            if (packed >>> COUNT_BITS != second) {
+                next = second << COUNT_BITS | 1;
+            } else {
+                next = (packed & COUNT_MASK) == COUNT_MASK ? packed : packed + 1;
+            }
+        } while (!rate.compareAndSet(slot, packed, next));
+    }
+
+    /**
+     * Records one {@code progress()} call of an active instance.
+     *
+     * @param nanos time spent progressing
+     */
+    public void recordProgress(long nanos) {
+        progressTime.record(nanos);
+    }
+
+    /** Called when an instance starts being ticked. */
+    public void instanceStarted() {
+        active.increment();
+    }
+
+    /** Called when an instance stops being ticked. */
+    public void instanceStopped() {
+        active.decrement();
+    }
+
+    /**
+     * Clears the recorded timings and counts. The active instance count is kept,
+     * so instances started before the reset are still counted when they stop.
+     */
+    void reset() {
+        castTime.reset();
+        progressTime.reset();
+        casts.reset();
+        failedCasts.reset();
+        for (int slot = 0; slot < RATE_WINDOW; slot++) {
+            rate.set(slot, 0);
+        }
+    }
+
+    /** @return the name of the spell these metrics belong to */
+    public String getSpellName() {
+        return spellName;
+    }
+
+    /** @return time spent per cast attempt */
+    public LatencyHistogram getCastTime() {
+        return castTime;
+    }
+
+    /** @return time spent per {@code progress()} call */
+    public LatencyHistogram getProgressTime() {
+        return progressTime;
+    }
+
+    /** @return the number of successful casts */
+    public long getCasts() {
+        return casts.sum();
+    }
+
+    /** @return the number of failed cast attempts */
+    public long getFailedCasts() {
+        return failedCasts.sum();
+    }
+
+    /** @return the number of instances currently being ticked */
+    public long getActiveInstances() {
+        return Math.max(0, active.sum());
+    }
+
+    /**
+     * @return successful casts per second over the last {@value #RATE_WINDOW} complete seconds
+     */
+    public double getCastsPerSecond() {
+        long now = second();
+        long total = 0;
+        for (int slot = 0; slot < RATE_WINDOW; slot++) {
+            long packed = rate.get(slot);
+            long second = packed >>> COUNT_BITS;
+            if (second < now && second >= now - RATE_WINDOW) total += packed & COUNT_MASK;
+        }
+        return total / (double) RATE_WINDOW;
+    }
+
+    /** @return whole seconds since the class was loaded, never negative unlike raw nanoTime seconds */
+    private static long second() {
+        return (System.nanoTime() - START) / 1_000_000_000L;
+    }
+
+    /** @return total time spent in this spell, casting and progressing, in nanoseconds */
+    public long getTotalNanos() {
+        return castTime.getTotalNanos() + progressTime.getTotalNanos();
+    }
+}
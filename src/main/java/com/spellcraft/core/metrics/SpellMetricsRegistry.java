@@ -0,0 +1,51 @@
+package com.spellcraft.core.metrics;
+
+import com.spellcraft.api.Spell;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link SpellMetrics} of every spell.
+ * <p>
+ * Metrics are keyed by spell name, so they carry over when spells are re-registered on reload.
+ */
+public final class SpellMetricsRegistry {
+
+    private final Map<String, SpellMetrics> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * @return the metrics of the given spell, created on first use
+     */
+    public SpellMetrics get(@NotNull Spell spell) {
+        String name = spell.getName() != null ? spell.getName() : spell.getClass().getSimpleName();
+        String key = name.toLowerCase(Locale.ROOT);
+
+        SpellMetrics existing = metrics.get(key);
+        return existing != null ? existing : metrics.computeIfAbsent(key, k -> new SpellMetrics(name));
+    }
+
+    /**
+     * @return the metrics of all spells that were used, most total time first
+     */
+    public List<SpellMetrics> getAll() {
+        List<SpellMetrics> all = new ArrayList<>(metrics.values());
+        all.sort(Comparator.comparingLong(SpellMetrics::getTotalNanos).reversed());
+        return all;
+    }
+
+    /**
+     * Clears all recorded metrics. Metrics are reset in place, since running instances keep the
+     * metrics they started with, and active instance counts are kept.
+     */
+    public void reset() {
+        for (SpellMetrics spellMetrics : metrics.values()) {
+            spellMetrics.reset();
+        }
+    }
+}
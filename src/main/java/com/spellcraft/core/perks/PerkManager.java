@@ -3,61 +3,58 @@ package com.spellcraft.core.perks;
 import com.spellcraft.SpellCraftPlugin;
 import com.spellcraft.api.Spell;
 import com.spellcraft.api.SpellCaster;
-import com.spellcraft.api.house.House;
-import com.spellcraft.api.magic.MagicElement;
+import com.spellcraft.core.SpellCasterImpl;
 import org.bukkit.configuration.ConfigurationSection;
 
+import java.util.function.Supplier;
+
 public class PerkManager {
 
-    private final SpellCraftPlugin plugin;
+    private final Supplier<? extends ConfigurationSection> config;
+
+    /** Compiled perks, replaced as a whole on reload */
+    private volatile PerkTable table;
 
     public PerkManager(SpellCraftPlugin plugin) {
-        this.plugin = plugin;
+        this(plugin::getPerksConfig);
     }
 
-    public int modifyMagicCost(SpellCaster caster, Spell spell) {
-        double cost = spell.getMagicCost();
-
-        cost *= getHouseMultiplier(caster.getHouse(), "magic-cost-multiplier");
-        cost *= getElementMultiplier(spell.getElement(), "magic-cost-multiplier");
-
-        return Math.max(0, (int) Math.round(cost));
+    /**
+     * Creates a manager reading perks from the given config source instead of the plugin's perks file.
+     *
+     * @param config supplies the perks config on creation and on every {@link #reload()}
+     */
+    public PerkManager(Supplier<? extends ConfigurationSection> config) {
+        this.config = config;
+        reload();
     }
 
-    public long modifyCooldown(SpellCaster caster, Spell spell) {
-        double cooldown = spell.getCooldown();
-
-        cooldown *= getHouseMultiplier(caster.getHouse(), "cooldown-multiplier");
-        cooldown *= getElementMultiplier(spell.getElement(), "cooldown-multiplier");
-
-        return Math.max(0L, (long) cooldown);
+    /**
+     * Recompiles the perks from the current perks config.
+     * Casters notice the new table and drop their cached costs and cooldowns.
+     */
+    public void reload() {
+        table = PerkTable.compile(config.get());
     }
 
-    public int getBonusRegen(SpellCaster caster) {
-        House house = caster.getHouse();
-        if (house == null) return 0;
-
-        ConfigurationSection sec = plugin.getPerksConfig()
-                .getConfigurationSection("houses." + house.getName());
-
-        return sec != null ? sec.getInt("magic-regen-bonus", 0) : 0;
+    /**
+     * @return the current compiled perks
+     */
+    public PerkTable getTable() {
+        return table;
     }
 
-    private double getHouseMultiplier(House house, String key) {
-        if (house == null) return 1.0;
-
-        ConfigurationSection sec = plugin.getPerksConfig()
-                .getConfigurationSection("houses." + house.getName());
-
-        return sec != null ? sec.getDouble(key, 1.0) : 1.0;
+    public int modifyMagicCost(SpellCaster caster, Spell spell) {
+        if (caster instanceof SpellCasterImpl impl) return impl.getEffectiveMagicCost(spell);
+        return table.magicCost(spell, caster.getHouse());
     }
 
-    private double getElementMultiplier(MagicElement element, String key) {
-        if (element == null) return 1.0;
-
-        ConfigurationSection sec = plugin.getPerksConfig()
-                .getConfigurationSection("elements." + element.getName());
+    public long modifyCooldown(SpellCaster caster, Spell spell) {
+        if (caster instanceof SpellCasterImpl impl) return impl.getEffectiveCooldown(spell);
+        return table.cooldown(spell, caster.getHouse());
+    }
 
-        return sec != null ? sec.getDouble(key, 1.0) : 1.0;
+    public int getBonusRegen(SpellCaster caster) {
+        return table.regenBonus(caster.getHouse());
     }
 }
@@ -0,0 +1,123 @@
+package com.spellcraft.core.perks;
+
+import com.spellcraft.api.Spell;
+import com.spellcraft.api.house.House;
+import com.spellcraft.api.magic.MagicElement;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable perks compiled from {@code perks.yml}.
+ * <p>
+ * Each house and element listed in the config gets a slot in flat multiplier arrays,
+ * slot 0 being the neutral entry for casters without a house, spells without an
+ * element and anything the config does not mention.
+ */
+public final class PerkTable {
+
+    private static final String COST = "magic-cost-multiplier";
+    private static final String COOLDOWN = "cooldown-multiplier";
+    private static final String REGEN = "magic-regen-bonus";
+
+    private final Map<String, Integer> houseSlots;
+    private final double[] houseCost;
+    private final double[] houseCooldown;
+    private final int[] houseRegen;
+
+    private final Map<String, Integer> elementSlots;
+    private final double[] elementCost;
+    private final double[] elementCooldown;
+
+    private PerkTable(ConfigurationSection houses, ConfigurationSection elements) {
+        this.houseSlots = slots(houses);
+        this.houseCost = new double[houseSlots.size() + 1];
+        this.houseCooldown = new double[houseSlots.size() + 1];
+        this.houseRegen = new int[houseSlots.size() + 1];
+        houseCost[0] = 1.0;
+        houseCooldown[0] = 1.0;
+
+        houseSlots.forEach((name, slot) -> {
+            ConfigurationSection sec = houses.getConfigurationSection(name);
+            houseCost[slot] = sec.getDouble(COST, 1.0);
+            houseCooldown[slot] = sec.getDouble(COOLDOWN, 1.0);
+            houseRegen[slot] = sec.getInt(REGEN, 0);
+        });
+
+        this.elementSlots = slots(elements);
+        this.elementCost = new double[elementSlots.size() + 1];
+        this.elementCooldown = new double[elementSlots.size() + 1];
+        elementCost[0] = 1.0;
+        elementCooldown[0] = 1.0;
+
+        elementSlots.forEach((name, slot) -> {
+            ConfigurationSection sec = elements.getConfigurationSection(name);
+            elementCost[slot] = sec.getDouble(COST, 1.0);
+            elementCooldown[slot] = sec.getDouble(COOLDOWN, 1.0);
+        });
+    }
+
+    /**
+     * Compiles the perks config.
+     *
+     * @param config the root of {@code perks.yml}, may be null for no perks
+     */
+    public static PerkTable compile(ConfigurationSection config) {
+        if (config == null) return new PerkTable(null, null);
+        return new PerkTable(
+                config.getConfigurationSection("houses"),
+                config.getConfigurationSection("elements")
+        );
+    }
+
+    /** Numbers every subsection from 1, leaving slot 0 neutral */
+    private static Map<String, Integer> slots(ConfigurationSection section) {
+        Map<String, Integer> slots = new HashMap<>();
+        if (section == null) return slots;
+
+        for (String key : section.getKeys(false)) {
+            if (section.isConfigurationSection(key)) slots.put(key, slots.size() + 1);
+        }
+        return slots;
+    }
+
+    private int slot(House house) {
+        return house != null ? houseSlots.getOrDefault(house.getName(), 0) : 0;
+    }
+
+    private int slot(MagicElement element) {
+        return element != null ? elementSlots.getOrDefault(element.getName(), 0) : 0;
+    }
+
+    /**
+     * @return the magic cost of a spell for a member of the given house
+     */
+    public int magicCost(Spell spell, House house) {
+        double cost = spell.getMagicCost();
+
+        cost *= houseCost[slot(house)];
+        cost *= elementCost[slot(spell.getElement())];
+
+        return Math.max(0, (int) Math.round(cost));
+    }
+
+    /**
+     * @return the cooldown in milliseconds of a spell for a member of the given house
+     */
+    public long cooldown(Spell spell, House house) {
+        double cooldown = spell.getCooldown();
+
+        cooldown *= houseCooldown[slot(house)];
+        cooldown *= elementCooldown[slot(spell.getElement())];
+
+        return Math.max(0L, (long) cooldown);
+    }
+
+    /**
+     * @return the extra magic regenerated every interval by members of the given house
+     */
+    public int regenBonus(House house) {
+        return houseRegen[slot(house)];
+    }
+}
@@ -5,16 +5,20 @@ import com.spellcraft.api.Spell;
 import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.event.SpellPlayerDamageEvent;
 import com.spellcraft.core.SpellCasterManager;
+import com.spellcraft.ui.SpellComponents;
 import com.spellcraft.util.ThreadUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerKickEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 public class PlayerListener implements Listener {
@@ -27,20 +31,31 @@ public class PlayerListener implements Listener {
         this.casterManager = casterManager;
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        // Start reading the player's data while the login finishes
+        plugin.getPlayerDataManager().preload(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLogin(PlayerLoginEvent event) {
+        if (event.getResult() == PlayerLoginEvent.Result.ALLOWED) return;
+        plugin.getPlayerDataManager().discardPreload(event.getPlayer().getUniqueId());
+    }
+
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
-        SpellCaster caster = casterManager.getCaster(player);
-        plugin.getLogger().info("SpellCaster for " + player.getName() + " loaded!");
+        casterManager.getCaster(player);
+        casterManager.whenLoaded(player.getUniqueId()).thenAccept(caster -> {
+            plugin.getLogger().info("SpellCaster for " + player.getName() + " loaded!");
+            plugin.getMagicBar().showForPlayer(player);
+        });
 
-        ThreadUtil.runGlobalTimer(() -> {
-            if (plugin.getConfig().getBoolean("ui.show-magic-bar", true)) {
-                plugin.getMagicBar().showForPlayer(player);
-            }
-        }, 20L, 100L);
-
-        ThreadUtil.runGlobalLater(() -> {
+        casterManager.whenLoaded(player.getUniqueId()).thenAccept(caster -> ThreadUtil.runGlobalLater(() -> {
             if (!caster.hasHouse()) {
                 SpellCraftPlugin.getAdventure().player(player).sendMessage(
                         Component.text("You must choose a house!")
@@ -51,7 +66,7 @@ public class PlayerListener implements Listener {
                                 .color(NamedTextColor.YELLOW)
                 );
             }
-        }, 40L);
+        }, 40L).ownedBy(casterManager.getSession(player.getUniqueId())));
     }
 
     @EventHandler
@@ -65,9 +80,11 @@ public class PlayerListener implements Listener {
     }
 
     private void handleLeave(Player player) {
+        plugin.getMagicBar().hide(player);
+
         SpellCaster caster = casterManager.getCasterIfLoaded(player.getUniqueId());
         if (caster != null) {
-            plugin.getPlayerDataManager().save(caster);
+            plugin.getPlayerDataManager().saveAsync(caster);
             plugin.getLogger().info("SpellCaster for " + player.getName() + " saved!");
             casterManager.removeCaster(player.getUniqueId());
         }
@@ -89,10 +106,7 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        var element = spell.getElement();
-        var color = element != null ? element.getColor() : NamedTextColor.WHITE;
-
-        SpellCraftPlugin.getAdventure().player(player).sendActionBar(Component.text(spell.getName()).color(color));
+        SpellCraftPlugin.getAdventure().player(player).sendActionBar(SpellComponents.name(spell));
     }
 
     @EventHandler
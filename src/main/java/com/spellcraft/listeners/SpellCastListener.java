@@ -9,6 +9,7 @@ import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.SpellCasterManager;
 import com.spellcraft.hooks.GriefPreventionHook;
 import com.spellcraft.hooks.WGHook;
+import com.spellcraft.ui.SpellComponents;
 import com.spellcraft.util.HouseUtil;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -87,7 +88,7 @@ public class SpellCastListener implements Listener {
 
         if (house != null && element != null && !HouseUtil.canUse(house, element)) {
             SpellCraftPlugin.getAdventure().player(player)
-                    .sendActionBar(Component.text("Your house cannot use this magic", NamedTextColor.RED));
+                    .sendActionBar(SpellComponents.WRONG_HOUSE);
             return false;
         }
 
@@ -105,7 +106,7 @@ public class SpellCastListener implements Listener {
         if (!GriefPreventionHook.canBuild(player, player.getLocation())) {
             SpellCraftPlugin.getAdventure().player(player).sendMessage(
                     Component.text("You cannot cast ", NamedTextColor.RED)
-                            .append(Component.text(spell.getName(), spell.getElement().getColor()))
+                            .append(SpellComponents.name(spell))
                             .append(Component.text(" here (Claimed land)", NamedTextColor.RED))
             );
             return false;
@@ -124,28 +125,32 @@ public class SpellCastListener implements Listener {
             case INSUFFICIENT_MAGIC -> {
                 int cost = plugin.getPerkManager().modifyMagicCost(caster, spell);
                 SpellCraftPlugin.getAdventure().player(player)
-                        .sendMessage(Component.text("Not enough magic! Need ", NamedTextColor.RED)
+                        .sendMessage(SpellComponents.NOT_ENOUGH_MAGIC
                                 .append(Component.text(cost + " magic.", NamedTextColor.YELLOW)));
             }
 
             case ON_COOLDOWN -> {
                 long cd = plugin.getPerkManager().modifyCooldown(caster, spell) / 1000;
                 SpellCraftPlugin.getAdventure().player(player)
-                        .sendMessage(Component.text("Spell on cooldown! ", NamedTextColor.RED)
+                        .sendMessage(SpellComponents.ON_COOLDOWN
                                 .append(Component.text(cd + "s remaining.", NamedTextColor.YELLOW)));
             }
 
             case NO_PERMISSION ->
                     SpellCraftPlugin.getAdventure().player(player)
-                            .sendMessage(Component.text("You don't have permission to cast this spell!", NamedTextColor.RED));
+                            .sendMessage(SpellComponents.NO_PERMISSION);
+
+            case NOT_READY ->
+                    SpellCraftPlugin.getAdventure().player(player)
+                            .sendActionBar(SpellComponents.STILL_LOADING);
 
             case INVALID_TARGET ->
                     SpellCraftPlugin.getAdventure().player(player)
-                            .sendMessage(Component.text("Invalid target for this spell!", NamedTextColor.RED));
+                            .sendMessage(SpellComponents.INVALID_TARGET);
 
             default ->
                     SpellCraftPlugin.getAdventure().player(player)
-                            .sendMessage(Component.text("Failed to cast spell!", NamedTextColor.RED));
+                            .sendMessage(SpellComponents.CAST_FAILED);
         }
     }
 
@@ -7,7 +7,6 @@ import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
 import com.spellcraft.util.ParticleEffect;
-import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
@@ -19,6 +18,11 @@ public class AirJets extends AbstractSpell {
     private Location currentLoc;
     private Location playerLoc;
 
+    private Player player;
+    private Location start;
+
+    private final double speed;
+
     public AirJets() {
         super(
                 "AirJets",
@@ -30,55 +34,63 @@ public class AirJets extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.airjets.enabled", true),
                 "Sneak to ride a jet of air!"
         );
+
+        speed = SpellCraftPlugin.getInstance().getConfig().getDouble("spells.airjets.speed", 1.5);
+    }
+
+    private AirJets(AirJets definition) {
+        super(definition);
+        this.speed = definition.speed;
     }
 
     @Override
-    protected SpellResult execute(SpellCaster caster) {
-        Player player = caster.getPlayer();
+    public @NotNull AirJets createInstance() {
+        return new AirJets(this);
+    }
 
-        double speed = SpellCraftPlugin.getInstance().getConfig().getDouble("spells.airjets.speed", 1.5);
-        double maxDistance = getRange();
+    @Override
+    protected SpellResult execute(SpellCaster caster) {
+        player = caster.getPlayer();
 
-        Location start = player.getLocation().clone();
+        start = player.getLocation().clone();
         playerLoc = start;
 
-        ThreadUtil.ensureLocationTimer(start, () -> {
-
-            if (!player.isOnline() || player.isDead()) {
-                remove();
-                return;
-            }
-
-            // Stop if player stops sneaking
-            if (!player.isSneaking()) {
-                remove();
-                return;
-            }
-
-            // Stop if exceeded range
-            if (player.getLocation().distanceSquared(start) > maxDistance * maxDistance) {
-                remove();
-                return;
-            }
-
-            // Propel player in look direction
-            Vector direction = player.getEyeLocation().getDirection().normalize();
-            player.setVelocity(direction.multiply(speed));
-
-            // Particles under player
-            Location below = player.getLocation().clone().subtract(0, 1, 0);
-            currentLoc = below;
-            playerLoc = player.getLocation();
-
-            ParticleEffect.CLOUD.display(below, 25);
-            ParticleEffect.SMOKE_NORMAL.display(below, 10);
-
-        }, 0, 1);
-
         return SpellResult.SUCCESS;
     }
 
-    @Override public void progress() {}
+    @Override
+    public void progress() {
+        if (!player.isOnline() || player.isDead()) {
+            remove();
+            return;
+        }
+
+        // Stop if player stops sneaking
+        if (!player.isSneaking()) {
+            remove();
+            return;
+        }
+
+        // Stop if exceeded range
+        double maxDistance = getRange();
+        if (player.getLocation().distanceSquared(start) > maxDistance * maxDistance) {
+            remove();
+            return;
+        }
+
+        // Propel player in look direction
+        Vector direction = player.getEyeLocation().getDirection().normalize();
+        player.setVelocity(direction.multiply(speed));
+
+        // Particles under player
+        Location below = player.getLocation().clone().subtract(0, 1, 0);
+        currentLoc = below;
+        playerLoc = player.getLocation();
+
+        ParticleEffect.CLOUD.display(below, 25);
+        ParticleEffect.SMOKE_NORMAL.display(below, 10);
+    }
+
     @Override protected void onLoad() {}
     @Override protected void onStop() {}
 
@@ -9,7 +9,7 @@ import com.spellcraft.core.AbstractSpell;
 import com.spellcraft.util.BlockSource;
 import com.spellcraft.util.DamageHandler;
 import com.spellcraft.util.ParticleEffect;
-import com.spellcraft.util.ThreadUtil;
+import com.spellcraft.util.SpatialIndex;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -23,11 +23,26 @@ import org.bukkit.potion.PotionType;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class AquaMissile extends AbstractSpell {
 
     private Location currentLoc;
     private Location playerLoc;
 
+    private final List<LivingEntity> hits = new ArrayList<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private Player player;
+    private int lived;
+
+    private final double sourceRange;
+    private final double speed;
+    private final double hitRadius;
+    private final double damage;
+    private final int maxLifetime;
+    private final boolean requireSource;
+
     public AquaMissile() {
         super(
                 "AquaMissile",
@@ -39,21 +54,36 @@ public class AquaMissile extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.aqua-missile.enabled", true),
                 "Sneak to launch a homing water orb!"
         );
+
+        var config = SpellCraftPlugin.getInstance().getConfig();
+
+        sourceRange = config.getDouble("spells.aqua-missile.source-range", 10.0);
+        speed = config.getDouble("spells.aqua-missile.speed", 0.6);
+        hitRadius = config.getDouble("spells.aqua-missile.hit-radius", 1.5);
+        damage = config.getDouble("spells.aqua-missile.damage", 6.0);
+        maxLifetime = config.getInt("spells.aqua-missile.max-ticks", 100);
+        requireSource = config.getBoolean("spells.aqua-missile.require-source", true);
     }
 
-    @Override
-    protected SpellResult execute(SpellCaster caster) {
+    private AquaMissile(AquaMissile definition) {
+        super(definition);
+        this.sourceRange = definition.sourceRange;
+        this.speed = definition.speed;
+        this.hitRadius = definition.hitRadius;
+        this.damage = definition.damage;
+        this.maxLifetime = definition.maxLifetime;
+        this.requireSource = definition.requireSource;
+    }
 
-        Player player = caster.getPlayer();
+    @Override
+    public @NotNull AquaMissile createInstance() {
+        return new AquaMissile(this);
+    }
 
-        var config = SpellCraftPlugin.getInstance().getConfig();
+    @Override
+    protected SpellResult execute(SpellCaster caster) {
 
-        double sourceRange = config.getDouble("spells.aqua-missile.source-range", 10.0);
-        double speed = config.getDouble("spells.aqua-missile.speed", 0.6);
-        double hitRadius = config.getDouble("spells.aqua-missile.hit-radius", 1.5);
-        double damage = config.getDouble("spells.aqua-missile.damage", 6.0);
-        int maxLifetime = config.getInt("spells.aqua-missile.max-ticks", 100);
-        boolean requireSource = config.getBoolean("spells.aqua-missile.require-source", true);
+        player = caster.getPlayer();
 
         Block source = BlockSource.getSourceBlock(player, sourceRange);
 
@@ -87,82 +117,80 @@ public class AquaMissile extends AbstractSpell {
 
         playerLoc = player.getLocation();
 
-        final int[] lived = {0};
-
-        ThreadUtil.ensureLocationTimer(currentLoc, () -> {
-
-            if (!player.isOnline() || player.isDead()) {
-                remove();
-                return;
-            }
+        return SpellResult.SUCCESS;
+    }
 
-            if (lived[0]++ > maxLifetime) {
+    @Override
+    public void progress() {
 
-                splash(currentLoc);
-                remove();
-                return;
-            }
+        if (!player.isOnline() || player.isDead()) {
+            remove();
+            return;
+        }
 
-            LivingEntity target = findNearestTarget(player, getRange());
+        if (lived++ > maxLifetime) {
 
-            Vector direction;
+            splash(currentLoc);
+            remove();
+            return;
+        }
 
-            if (target != null) {
+        LivingEntity target = findNearestTarget(player, getRange());
 
-                direction =
-                        target.getEyeLocation().toVector()
-                                .subtract(currentLoc.toVector())
-                                .normalize();
+        Vector direction;
 
-            } else {
+        if (target != null) {
 
-                direction =
-                        player.getEyeLocation()
-                                .getDirection()
-                                .normalize();
-            }
+            direction =
+                    target.getEyeLocation().toVector()
+                            .subtract(currentLoc.toVector())
+                            .normalize();
 
-            currentLoc.add(direction.multiply(speed));
+        } else {
 
-            playerLoc = player.getLocation();
+            direction =
+                    player.getEyeLocation()
+                            .getDirection()
+                            .normalize();
+        }
 
-            if (currentLoc.getBlock().getType().isSolid()) {
+        currentLoc.add(direction.multiply(speed));
 
-                splash(currentLoc);
-                remove();
-                return;
-            }
+        playerLoc = player.getLocation();
 
-            ParticleEffect.WATER_SPLASH.display(currentLoc,6);
+        if (currentLoc.getBlock().getType().isSolid()) {
 
-            ParticleEffect.WATER_BUBBLE.display(currentLoc,3);
+            splash(currentLoc);
+            remove();
+            return;
+        }
 
-            currentLoc.getWorld()
-                    .getNearbyEntities(currentLoc, hitRadius, hitRadius, hitRadius)
-                    .forEach(entity -> {
+        ParticleEffect.WATER_SPLASH.display(currentLoc,6);
 
-                        if (!(entity instanceof LivingEntity living)) return;
+        ParticleEffect.WATER_BUBBLE.display(currentLoc,3);
 
-                        if (living.equals(player)) return;
+        SpatialIndex.of(currentLoc.getWorld())
+                .querySphere(currentLoc.getX(), currentLoc.getY(), currentLoc.getZ(), hitRadius, hits);
 
-                        if (!DamageHandler.isValidTarget(player,living)) return;
+        for (LivingEntity living : hits) {
 
-                        DamageHandler.damage(
-                                player,
-                                living,
-                                damage,
-                                getName(),
-                                getElement()
-                        );
+            if (living.equals(player)) continue;
 
-                        splash(currentLoc);
+            if (!DamageHandler.isValidTarget(player,living)) continue;
 
-                        remove();
-                    });
+            DamageHandler.damage(
+                    player,
+                    living,
+                    damage,
+                    getName(),
+                    getElement()
+            );
 
-        },0,1);
+            splash(currentLoc);
 
-        return SpellResult.SUCCESS;
+            remove();
+            return;
+        }
     }
 
     private boolean hasWaterBottle(Player player) {
@@ -219,19 +247,29 @@ public class AquaMissile extends AbstractSpell {
 
     private LivingEntity findNearestTarget(Player player, double range) {
 
-        return player
-                .getNearbyEntities(range,range,range)
-                .stream()
-                .filter(e -> e instanceof LivingEntity living && !living.equals(player))
-                .map(e -> (LivingEntity)e)
-                .filter(e -> DamageHandler.isValidTarget(player,e))
-                .min((a,b) ->
-                        Double.compare(
-                                a.getLocation().distanceSquared(player.getLocation()),
-                                b.getLocation().distanceSquared(player.getLocation())
-                        )
-                )
-                .orElse(null);
+        Location origin = player.getLocation();
+
+        SpatialIndex.of(origin.getWorld())
+                .queryBox(origin.getX(), origin.getY(), origin.getZ(), range, range, range, hits);
+
+        LivingEntity nearest = null;
+        double nearestSq = Double.MAX_VALUE;
+
+        for (LivingEntity living : hits) {
+
+            if (living.equals(player)) continue;
+
+            if (!DamageHandler.isValidTarget(player,living)) continue;
+
+            double distanceSq = living.getLocation(scratch).distanceSquared(origin);
+
+            if (distanceSq < nearestSq) {
+                nearest = living;
+                nearestSq = distanceSq;
+            }
+        }
+
+        return nearest;
     }
 
     private void splash(Location loc) {
@@ -248,8 +286,6 @@ public class AquaMissile extends AbstractSpell {
         );
     }
 
-    @Override public void progress() {}
-
     @Override protected void onLoad() {}
 
     @Override protected void onStop() {}
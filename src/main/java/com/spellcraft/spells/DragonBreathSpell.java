@@ -6,22 +6,28 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
-import com.spellcraft.util.ThreadUtil;
+import com.spellcraft.util.ParticleEffect;
+import com.spellcraft.util.SpatialIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.Particle;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class DragonBreathSpell extends AbstractSpell {
 
     private Location currentLocation;
-    private double radius = 5.0;
-    private double damage = 6.0;
+    private final double radius = 5.0;
+    private final double damage = 6.0;
+
+    private final List<LivingEntity> hits = new ArrayList<>();
+    private Player player;
+    private int ticks;
 
     public DragonBreathSpell() {
         super(
@@ -36,45 +42,56 @@ public class DragonBreathSpell extends AbstractSpell {
         );
     }
 
+    private DragonBreathSpell(DragonBreathSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull DragonBreathSpell createInstance() {
+        return new DragonBreathSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
-        Player player = caster.getPlayer();
+        player = caster.getPlayer();
         currentLocation = player.getLocation().clone();
 
-        ThreadUtil.ensureLocationTimer(currentLocation, () -> {
-            if (!player.isOnline() || player.isDead()) {
-                remove();
-                return;
-            }
-
-            // Spawn particles
-            for (double angle = 0; angle < 360; angle += 20) {
-                double radians = Math.toRadians(angle);
-                double x = Math.cos(radians) * radius;
-                double z = Math.sin(radians) * radius;
-                Location particleLoc = currentLocation.clone().add(x, 1, z);
-                if (particleLoc.getBlock().getType() == Material.AIR) {
-                    particleLoc.getBlock().setType(Material.FIRE);
-                }
-                particleLoc.getWorld().spawnParticle(Particle.FLAME, particleLoc, 1, 0, 0, 0, 0.05);
-            }
+        return SpellResult.SUCCESS;
+    }
 
-            // Damage entities
-            for (Entity entity : currentLocation.getWorld().getNearbyEntities(currentLocation, radius, 2, radius)) {
-                if (entity instanceof LivingEntity living && !living.equals(player)) {
-                    living.setFireTicks(80);
-                    living.damage(damage, player);
-                }
+    @Override
+    public void progress() {
+        if (ticks++ % 2 != 0) return;
+
+        if (!player.isOnline() || player.isDead()) {
+            remove();
+            return;
+        }
+
+        // Spawn particles
+        for (double angle = 0; angle < 360; angle += 20) {
+            double radians = Math.toRadians(angle);
+            double x = Math.cos(radians) * radius;
+            double z = Math.sin(radians) * radius;
+            Location particleLoc = currentLocation.clone().add(x, 1, z);
+            if (particleLoc.getBlock().getType() == Material.AIR) {
+                particleLoc.getBlock().setType(Material.FIRE);
             }
+            ParticleEffect.FLAME.display(particleLoc, 1, 0, 0, 0, 0.05);
+        }
 
-        }, 0, 2);
+        // Damage entities
+        SpatialIndex.of(currentLocation.getWorld()).queryBox(
+                currentLocation.getX(), currentLocation.getY(), currentLocation.getZ(), radius, 2, radius, hits);
 
-        return SpellResult.SUCCESS;
+        for (LivingEntity living : hits) {
+            if (!living.equals(player)) {
+                living.setFireTicks(80);
+                living.damage(damage, player);
+            }
+        }
     }
 
-    @Override
-    public void progress() {}
-
     @Override
     protected void onLoad() {}
 
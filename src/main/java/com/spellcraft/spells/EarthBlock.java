@@ -7,7 +7,6 @@ import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
 import com.spellcraft.util.TempBlock;
 import com.spellcraft.util.TempFallingBlock;
-import com.spellcraft.util.ThreadUtil;
 import org.bukkit.*;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
@@ -21,24 +20,35 @@ public class EarthBlock extends AbstractSpell {
         super("EarthBlock", "Spawn a single earth block", SpellCategory.UTILITY, 1, 0L, 50D, true, "Left Click Air");
     }
 
+    private EarthBlock(EarthBlock definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull EarthBlock createInstance() {
+        return new EarthBlock(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
         currentLocation = player.getLocation().clone();
 
         TempBlock tb = new TempBlock(currentLocation.getBlock(), Material.GRASS_BLOCK);
-        ThreadUtil.ensureLocationLater(tb.getBlock().getLocation(), tb::revert, 30 * 20);
+        tb.revertAfter(30 * 20);
 
         TempFallingBlock tfb = new TempFallingBlock(currentLocation, Material.BEDROCK.createBlockData(), player.getVelocity(), false);
         player.getLocation().getWorld().playSound(tfb.getEntity().getLocation(), Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 1.0f);
 
-        ThreadUtil.ensureLocationLater(currentLocation, tfb::remove, 900 * 20);
+        tfb.removeAfter(900 * 20);
 
         return SpellResult.SUCCESS;
     }
 
     @Override
     public void progress() {
+        // Instant spell, nothing to progress
+        remove();
     }
 
     @Override
@@ -6,11 +6,11 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import com.spellcraft.util.DamageHandler;
-import com.spellcraft.util.ThreadUtil;
+import com.spellcraft.util.SpatialIndex;
 import org.bukkit.*;
 import org.bukkit.block.Block;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.FallingBlock;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -20,20 +20,23 @@ import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EarthKick extends AbstractSpell {
 
-    private static final Set<FallingBlock> ACTIVE_BLOCKS = new HashSet<>();
+    private static final Set<FallingBlock> ACTIVE_BLOCKS = ConcurrentHashMap.newKeySet();
     private final List<FallingBlock> spawnedBlocks = new ArrayList<>();
+    private final List<LivingEntity> hits = new ArrayList<>();
 
-    private long duration;
-    private double damage;
-    private int maxBlocks;
-    private double lavaMultiplier;
+    private final long duration;
+    private final double baseDamage;
+    private final int maxBlocks;
+    private final double lavaMultiplier;
 
+    private double damage;
     private long startTime;
     private Location playerLocation;
-    private Location cachedloc;
+    private Player player;
 
     public EarthKick() {
         super(
@@ -46,18 +49,33 @@ public class EarthKick extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.earthkick.enabled", true),
                 "Sneak at earth in front of you"
         );
-    }
-
-    @Override
-    protected SpellResult execute(SpellCaster caster) {
 
-        Player player = caster.getPlayer();
         var config = SpellCraftPlugin.getInstance().getConfig();
 
-        this.damage = config.getDouble("spells.earthkick.damage", 6.0);
+        this.baseDamage = config.getDouble("spells.earthkick.damage", 6.0);
         this.maxBlocks = config.getInt("spells.earthkick.max-blocks", 4);
         this.lavaMultiplier = config.getDouble("spells.earthkick.lava-multiplier", 1.5);
         this.duration = config.getLong("spells.earthkick.duration", 2500);
+    }
+
+    private EarthKick(EarthKick definition) {
+        super(definition);
+        this.baseDamage = definition.baseDamage;
+        this.maxBlocks = definition.maxBlocks;
+        this.lavaMultiplier = definition.lavaMultiplier;
+        this.duration = definition.duration;
+    }
+
+    @Override
+    public @NotNull EarthKick createInstance() {
+        return new EarthKick(this);
+    }
+
+    @Override
+    protected SpellResult execute(SpellCaster caster) {
+
+        player = caster.getPlayer();
+        damage = baseDamage;
 
         Block target = player.getTargetBlockExact(3);
         if (target == null) return SpellResult.INVALID_TARGET;
@@ -76,8 +94,6 @@ public class EarthKick extends AbstractSpell {
         startTime = System.currentTimeMillis();
         playerLocation = player.getLocation();
 
-        ThreadUtil.ensureLocationTimer(cachedloc, () -> progress(player), 0, 1);
-
         player.getWorld().playSound(player.getLocation(),
                 Sound.BLOCK_STONE_BREAK, 1f, 0.8f);
 
@@ -112,7 +128,8 @@ public class EarthKick extends AbstractSpell {
         }
     }
 
-    private void progress(Player player) {
+    @Override
+    public void progress() {
 
         Iterator<FallingBlock> iterator = spawnedBlocks.iterator();
 
@@ -125,21 +142,21 @@ public class EarthKick extends AbstractSpell {
                 continue;
             }
 
-            cachedloc = fb.getLocation();
             Location loc = fb.getLocation();
 
             // Block crack particles (Spigot safe)
-            loc.getWorld().spawnParticle(
-                    Particle.BLOCK_CRACK,
+            ParticleEffect.BLOCK_CRACK.display(
                     loc,
                     3,
                     0.1, 0.1, 0.1,
+                    1,
                     fb.getBlockData()
             );
 
-            for (Entity entity : loc.getWorld().getNearbyEntities(loc, 1.5, 1.5, 1.5)) {
+            SpatialIndex.of(loc.getWorld()).querySphere(loc.getX(), loc.getY(), loc.getZ(), 1.5, hits);
+
+            for (LivingEntity living : hits) {
 
-                if (!(entity instanceof LivingEntity living)) continue;
                 if (living.equals(player)) continue;
                 if (!DamageHandler.isValidTarget(player, living)) continue;
 
@@ -183,7 +200,6 @@ public class EarthKick extends AbstractSpell {
         spawnedBlocks.clear();
     }
 
-    @Override public void progress() {}
     @Override protected void onLoad() {}
     @Override protected void onStop() {}
 
@@ -6,7 +6,6 @@ import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
-import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Fireball;
@@ -19,6 +18,13 @@ public class FireballSpell extends AbstractSpell {
 
     private Location currentLocation;
 
+    private Fireball fireball;
+    private Location start;
+
+    private final double speed;
+    private final float explosionPower;
+    private final double maxRange;
+
     public FireballSpell() {
         super(
                 "Fireball",
@@ -30,6 +36,22 @@ public class FireballSpell extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.fireball.enabled", true),
                 "Left Click Air"
         );
+
+        speed = SpellCraftPlugin.getInstance().getConfig().getDouble("spells.fireball.speed", 1.5);
+        explosionPower = (float) SpellCraftPlugin.getInstance().getConfig().getDouble("spells.fireball.explosion-power", 2.0);
+        maxRange = SpellCraftPlugin.getInstance().getConfig().getDouble("spells.fireball.range", 20.0);
+    }
+
+    private FireballSpell(FireballSpell definition) {
+        super(definition);
+        this.speed = definition.speed;
+        this.explosionPower = definition.explosionPower;
+        this.maxRange = definition.maxRange;
+    }
+
+    @Override
+    public @NotNull FireballSpell createInstance() {
+        return new FireballSpell(this);
     }
 
     @Override
@@ -37,30 +59,32 @@ public class FireballSpell extends AbstractSpell {
         Player player = caster.getPlayer();
         Vector direction = player.getEyeLocation().getDirection();
 
-        Fireball fireball = player.getWorld().spawn(player.getEyeLocation().add(direction.clone().multiply(2)), Fireball.class);
+        fireball = player.getWorld().spawn(player.getEyeLocation().add(direction.clone().multiply(2)), Fireball.class);
         fireball.setShooter(player);
-        fireball.setVelocity(direction.multiply(SpellCraftPlugin.getInstance().getConfig().getDouble("spells.fireball.speed", 1.5)));
-        fireball.setYield((float) SpellCraftPlugin.getInstance().getConfig().getDouble("spells.fireball.explosion-power", 2.0));
+        fireball.setVelocity(direction.multiply(speed));
+        fireball.setYield(explosionPower);
         fireball.setIsIncendiary(true);
 
         currentLocation = fireball.getLocation().clone();
-        Location start = currentLocation.clone();
-
-        ThreadUtil.ensureLocationTimer(fireball.getLocation(), () -> {
-            if (!fireball.isValid() || fireball.isDead()) return;
-
-            currentLocation = fireball.getLocation().clone();
-
-            if (fireball.getLocation().distanceSquared(start) >= Math.pow(SpellCraftPlugin.getInstance().getConfig().getDouble("spells.fireball.range", 20.0), 2)) {
-                fireball.remove();
-            }
-        }, 1L, 1L);
+        start = currentLocation.clone();
 
         return SpellResult.SUCCESS;
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        if (!fireball.isValid() || fireball.isDead()) {
+            remove();
+            return;
+        }
+
+        currentLocation = fireball.getLocation().clone();
+
+        if (fireball.getLocation().distanceSquared(start) >= maxRange * maxRange) {
+            fireball.remove();
+            remove();
+        }
+    }
 
     @Override
     protected void onLoad() {}
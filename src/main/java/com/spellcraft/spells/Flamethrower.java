@@ -8,18 +8,33 @@ import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
 import com.spellcraft.util.DamageHandler;
 import com.spellcraft.util.ParticleEffect;
-import com.spellcraft.util.ThreadUtil;
+import com.spellcraft.util.RayTrace;
+import com.spellcraft.util.SpatialIndex;
 import org.bukkit.Location;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Flamethrower extends AbstractSpell {
 
+    private static final double STEP = 0.6;
+
     private Location pointloc;
     private Location playerloc;
 
+    private final List<LivingEntity> hits = new ArrayList<>();
+    private Player player;
+    private int livedTicks;
+
+    private final double hitRadius;
+    private final double damage;
+    private final int fireTicks;
+    private final int maxDurationTicks;
+
     public Flamethrower() {
         super(
                 "Flamethrower",
@@ -31,71 +46,91 @@ public class Flamethrower extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.flamethrower.enabled", true),
                 "Crouch in front of your enemy!"
         );
-    }
 
-    @Override
-    protected SpellResult execute(SpellCaster caster) {
-        Player player = caster.getPlayer();
-
-        double maxRange = getRange();
-        double step = 0.6;
-        double hitRadius = SpellCraftPlugin.getInstance().getConfig()
+        hitRadius = SpellCraftPlugin.getInstance().getConfig()
                 .getDouble("spells.flamethrower.hit-radius", 1.2);
-        double damage = SpellCraftPlugin.getInstance().getConfig()
+        damage = SpellCraftPlugin.getInstance().getConfig()
                 .getDouble("spells.flamethrower.damage", 2.0);
-        int fireTicks = SpellCraftPlugin.getInstance().getConfig()
+        fireTicks = SpellCraftPlugin.getInstance().getConfig()
                 .getInt("spells.flamethrower.fire-ticks", 40);
 
-        int maxDurationTicks = SpellCraftPlugin.getInstance().getConfig()
+        maxDurationTicks = SpellCraftPlugin.getInstance().getConfig()
                 .getInt("spells.flamethrower.duration-ticks", 60); // 3 seconds default
+    }
+
+    private Flamethrower(Flamethrower definition) {
+        super(definition);
+        this.hitRadius = definition.hitRadius;
+        this.damage = definition.damage;
+        this.fireTicks = definition.fireTicks;
+        this.maxDurationTicks = definition.maxDurationTicks;
+    }
+
+    @Override
+    public @NotNull Flamethrower createInstance() {
+        return new Flamethrower(this);
+    }
 
-        final int[] livedTicks = {0};
+    @Override
+    protected SpellResult execute(SpellCaster caster) {
+        player = caster.getPlayer();
+        playerloc = player.getLocation();
 
-        ThreadUtil.ensureLocationTimer(player.getEyeLocation(), () -> {
+        return SpellResult.SUCCESS;
+    }
 
-            // STOP CONDITIONS
-            if (!player.isOnline() || player.isDead() || !player.isSneaking()) {
-                remove();
-                return;
-            }
+    @Override
+    public void progress() {
 
-            if (livedTicks[0]++ > maxDurationTicks) {
-                remove();
-                return;
-            }
+        // STOP CONDITIONS
+        if (!player.isOnline() || player.isDead() || !player.isSneaking()) {
+            remove();
+            return;
+        }
 
-            Location eye = player.getEyeLocation();
-            var dir = eye.getDirection().normalize();
-            playerloc = player.getLocation();
+        if (livedTicks++ > maxDurationTicks) {
+            remove();
+            return;
+        }
 
-            for (double d = 0; d < maxRange; d += step) {
-                Location point = eye.clone().add(dir.clone().multiply(d));
-                pointloc = point;
+        double maxRange = getRange();
+        Location eye = player.getEyeLocation();
+        var dir = eye.getDirection().normalize();
+        playerloc = player.getLocation();
 
-                if (point.getBlock().getType().isSolid()) break;
+        double solid = RayTrace.distanceToSolid(eye.getWorld(),
+                eye.getX(), eye.getY(), eye.getZ(), dir.getX(), dir.getY(), dir.getZ(), maxRange);
 
-                ParticleEffect.FLAME.display(point, 2);
-                ParticleEffect.SMOKE_NORMAL.display(point, 1);
+        if (solid <= 0) return;
 
-                point.getWorld().getNearbyEntities(point, hitRadius, hitRadius, hitRadius)
-                        .forEach(entity -> {
-                            if (!(entity instanceof LivingEntity living)) return;
-                            if (living.equals(player)) return;
-                            if (!DamageHandler.isValidTarget(player, living)) return;
+        Location point = eye.clone();
+        double reach = 0;
 
-                            DamageHandler.damage(player, living, damage, getName(), getElement());
-                            living.setFireTicks(Math.max(living.getFireTicks(), fireTicks));
-                        });
-            }
+        for (double d = 0; d < maxRange && d < solid; d += STEP) {
+            point.setX(eye.getX() + dir.getX() * d);
+            point.setY(eye.getY() + dir.getY() * d);
+            point.setZ(eye.getZ() + dir.getZ() * d);
 
-        }, 0, 1);
+            ParticleEffect.FLAME.display(point, 2);
+            ParticleEffect.SMOKE_NORMAL.display(point, 1);
+            reach = d;
+        }
 
-        return SpellResult.SUCCESS;
-    }
+        pointloc = point;
 
+        SpatialIndex.of(eye.getWorld()).queryCapsule(
+                eye.getX(), eye.getY(), eye.getZ(),
+                eye.getX() + dir.getX() * reach, eye.getY() + dir.getY() * reach, eye.getZ() + dir.getZ() * reach,
+                hitRadius, hits);
 
-    @Override
-    public void progress() { }
+        for (LivingEntity living : hits) {
+            if (living.equals(player)) continue;
+            if (!DamageHandler.isValidTarget(player, living)) continue;
+
+            DamageHandler.damage(player, living, damage, getName(), getElement());
+            living.setFireTicks(Math.max(living.getFireTicks(), fireTicks));
+        }
+    }
 
     @Override
     protected void onLoad() { }
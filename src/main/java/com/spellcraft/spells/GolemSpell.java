@@ -6,10 +6,10 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
-import com.spellcraft.util.ThreadUtil;
+import com.spellcraft.util.ExpiryWheel;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.IronGolem;
 import org.bukkit.entity.Player;
@@ -37,6 +37,15 @@ public class GolemSpell extends AbstractSpell {
         );
     }
 
+    private GolemSpell(GolemSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull GolemSpell createInstance() {
+        return new GolemSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
@@ -50,21 +59,18 @@ public class GolemSpell extends AbstractSpell {
             golem.setPlayerCreated(true);
 
             // Particle and sound effect
-            spawnLocation.getWorld().spawnParticle(Particle.CRIT_MAGIC, spawnLocation, 50, 1, 1, 1);
+            ParticleEffect.CRIT_MAGIC.display(spawnLocation, 50, 1, 1, 1, 1);
             player.playSound(spawnLocation, Sound.ENTITY_IRON_GOLEM_STEP, 1f, 1.2f);
 
             summonedGolems.add(golem);
 
             // **Despawn golem after 1 minute**
-            ThreadUtil.ensureLocationLater(spawnLocation, new Runnable() {
-                @Override
-                public void run() {
-                    if (golem != null && !golem.isDead()) {
-                        golem.remove();
-                        summonedGolems.remove(golem);
-                    }
+            ExpiryWheel.schedule(golem, 1200L, () -> {
+                if (!golem.isDead()) {
+                    golem.remove();
+                    summonedGolems.remove(golem);
                 }
-            }, 1200L); // 1200 ticks = 60 seconds
+            }).ownedBy(getTasks()); // 1200 ticks = 60 seconds
         }
 
         return SpellResult.SUCCESS;
@@ -72,8 +78,14 @@ public class GolemSpell extends AbstractSpell {
 
     @Override
     public void progress() {
+        summonedGolems.removeIf(golem -> golem == null || golem.isDead());
+
+        if (summonedGolems.isEmpty()) {
+            remove();
+            return;
+        }
+
         for (IronGolem golem : new ArrayList<>(summonedGolems)) {
-            if (golem == null || golem.isDead()) continue;
             Player player = getLocation().getWorld().getPlayers().stream()
                     .filter(p -> golem.getCustomName() != null && golem.getCustomName().startsWith(p.getName()))
                     .findFirst().orElse(null);
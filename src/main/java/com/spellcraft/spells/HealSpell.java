@@ -6,10 +6,10 @@ import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
-import org.bukkit.Particle;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
@@ -19,6 +19,8 @@ public class HealSpell extends AbstractSpell {
 
     private Location currentLocation;
 
+    private final double healAmount;
+
     public HealSpell() {
         super(
                 "Heal",
@@ -30,6 +32,18 @@ public class HealSpell extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.heal.enabled", true),
                 "Right Click a Block while Sneaking"
         );
+
+        healAmount = SpellCraftPlugin.getInstance().getConfig().getDouble("spells.heal.heal-amount", 10.0);
+    }
+
+    private HealSpell(HealSpell definition) {
+        super(definition);
+        this.healAmount = definition.healAmount;
+    }
+
+    @Override
+    public @NotNull HealSpell createInstance() {
+        return new HealSpell(this);
     }
 
     @Override
@@ -38,17 +52,20 @@ public class HealSpell extends AbstractSpell {
         currentLocation = player.getLocation().clone();
 
         double maxHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
-        player.setHealth(Math.min(player.getHealth() + SpellCraftPlugin.getInstance().getConfig().getDouble("spells.heal.heal-amount", 10.0), maxHealth));
+        player.setHealth(Math.min(player.getHealth() + healAmount, maxHealth));
         player.setFireTicks(0);
         player.getActivePotionEffects().forEach(effect -> player.removePotionEffect(effect.getType()));
-        player.getWorld().spawnParticle(Particle.HEART, currentLocation.add(0, 1, 0), 20, 0.5, 0.5, 0.5);
+        ParticleEffect.HEART.display(currentLocation.add(0, 1, 0), 20, 0.5, 0.5, 0.5, 1);
         player.playSound(currentLocation, Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
 
         return SpellResult.SUCCESS;
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
 
     @Override
     protected void onLoad() {}
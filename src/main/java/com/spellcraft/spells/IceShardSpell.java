@@ -6,10 +6,10 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
@@ -45,6 +45,15 @@ public class IceShardSpell extends AbstractSpell implements Listener {
         Bukkit.getPluginManager().registerEvents(this, SpellCraftPlugin.getInstance());
     }
 
+    private IceShardSpell(IceShardSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull IceShardSpell createInstance() {
+        return new IceShardSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
@@ -56,7 +65,7 @@ public class IceShardSpell extends AbstractSpell implements Listener {
             shard.setCustomName("IceShard");
         }
 
-        player.getWorld().spawnParticle(Particle.SNOWFLAKE, player.getLocation(), 30, 1,1,1);
+        ParticleEffect.SNOWFLAKE.display(player.getLocation(), 30, 1,1,1, 1);
         player.playSound(player.getLocation(), Sound.ENTITY_SNOWBALL_THROW, 1f, 1.2f);
 
         return SpellResult.SUCCESS;
@@ -80,13 +89,16 @@ public class IceShardSpell extends AbstractSpell implements Listener {
             Vector knockback = target.getLocation().toVector().subtract(event.getEntity().getLocation().toVector())
                     .normalize().multiply(knockbackStrength);
             target.setVelocity(knockback);
-            target.getWorld().spawnParticle(Particle.SNOWFLAKE, target.getLocation().add(0,1,0), 15,0.3,0.3,0.3);
+            ParticleEffect.SNOWFLAKE.display(target.getLocation().add(0,1,0), 15,0.3,0.3,0.3, 1);
             target.getWorld().playSound(target.getLocation(), Sound.BLOCK_GLASS_BREAK, 1f,1.2f);
         }
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
     @Override
     protected void onLoad() {}
     @Override
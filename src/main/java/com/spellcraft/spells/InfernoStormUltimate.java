@@ -7,18 +7,23 @@ import com.spellcraft.api.SpellResult;
 import com.spellcraft.SpellCraftPlugin;
 import com.spellcraft.api.*;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
+import com.spellcraft.util.SpatialIndex;
 import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.block.Action;
+import org.jetbrains.annotations.NotNull;
 import org.bukkit.util.Vector;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class InfernoStormUltimate extends AbstractSpell {
 
+    private final List<LivingEntity> hits = new ArrayList<>();
     private Location currentLocation;
 
     public InfernoStormUltimate() {
@@ -34,25 +39,36 @@ public class InfernoStormUltimate extends AbstractSpell {
         );
     }
 
+    private InfernoStormUltimate(InfernoStormUltimate definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull InfernoStormUltimate createInstance() {
+        return new InfernoStormUltimate(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         if (!isEnabled()) return SpellResult.FAILURE;
 
         currentLocation = caster.getPlayer().getLocation().clone();
 
-        // Spawn particles and effects asynchronously
-        ThreadUtil.runAsync(() -> {
+        // Runs inline, the caster's thread owns the location
+        ThreadUtil.ensureLocation(currentLocation, () -> {
             for (int i = 0; i < 50; i++) {
                 double offsetX = Math.random() * 10 - 5;
                 double offsetZ = Math.random() * 10 - 5;
                 Location loc = currentLocation.clone().add(offsetX, 1, offsetZ);
-                loc.getWorld().spawnParticle(Particle.FLAME, loc, 5);
-                loc.getWorld().spawnParticle(Particle.LAVA, loc, 2);
+                ParticleEffect.FLAME.display(loc, 5, 0, 0, 0, 1);
+                ParticleEffect.LAVA.display(loc, 2, 0, 0, 0, 1);
             }
 
             // Damage nearby entities
-            for (Entity e : currentLocation.getWorld().getNearbyEntities(currentLocation, 8, 4, 8)) {
-                if (e instanceof LivingEntity target && target != caster.getPlayer()) {
+            SpatialIndex.of(currentLocation.getWorld()).queryBox(currentLocation.getX(), currentLocation.getY(),
+                    currentLocation.getZ(), 8, 4, 8, hits);
+            for (LivingEntity target : hits) {
+                if (target != caster.getPlayer()) {
                     target.damage(10 + caster.getMagicPower() * 0.3, caster.getPlayer());
                 }
             }
@@ -71,7 +87,10 @@ public class InfernoStormUltimate extends AbstractSpell {
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
 
     @Override
     protected void onLoad() {}
@@ -6,23 +6,33 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
+import com.spellcraft.util.SpatialIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class LavaDragonSpell extends AbstractSpell {
 
     private Location currentLocation;
     private final double damage = 8.0;
 
+    private final List<LivingEntity> hits = new ArrayList<>();
+    private Player player;
+    private World world;
+    private Location start;
+    private Vector direction;
+    private double distance;
+
     public LavaDragonSpell() {
         super(
                 "LavaDragon",
@@ -36,55 +46,62 @@ public class LavaDragonSpell extends AbstractSpell {
         );
     }
 
+    private LavaDragonSpell(LavaDragonSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull LavaDragonSpell createInstance() {
+        return new LavaDragonSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
-        Player player = caster.getPlayer();
+        player = caster.getPlayer();
         currentLocation = player.getLocation().clone();
 
-        World world = player.getWorld();
-        Location start = player.getEyeLocation();
-        Vector direction = start.getDirection().normalize();
+        world = player.getWorld();
+        start = player.getEyeLocation();
+        direction = start.getDirection().normalize();
+        distance = 0;
 
         world.playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1f, 0.6f);
 
-        new BukkitRunnable() {
-            double distance = 0;
-
-            @Override
-            public void run() {
-                if (distance > 20) {
-                    cancel();
-                    return;
-                }
-
-                Location point = start.clone().add(direction.clone().multiply(distance));
-
-                // Dragon body particles
-                world.spawnParticle(Particle.FLAME, point, 25, 0.6,0.4,0.6, 0.02);
-                world.spawnParticle(Particle.LAVA, point, 8, 0.5,0.3,0.5, 0.01);
-                world.spawnParticle(Particle.SMOKE_LARGE, point, 10, 0.4,0.3,0.4, 0.01);
-
-                // Damage nearby enemies
-                for (Entity entity : world.getNearbyEntities(point, 2.5, 2.5, 2.5)) {
-                    if (entity instanceof Player target && !target.equals(player)) {
-                        target.damage(damage, player);
-                        target.setFireTicks(100);
-                    }
-                }
-
-                // Dragon roar along path
-                if (distance % 5 == 0) {
-                    world.playSound(point, Sound.ENTITY_BLAZE_SHOOT, 0.7f, 0.7f);
-                }
-
-                distance += 0.8;
+        return SpellResult.SUCCESS;
+    }
+
+    @Override
+    public void progress() {
+        if (distance > 20) {
+            remove();
+            return;
+        }
+
+        Location point = start.clone().add(direction.clone().multiply(distance));
+
+        // Dragon body particles
+        ParticleEffect.FLAME.display(point, 25, 0.6,0.4,0.6, 0.02);
+        ParticleEffect.LAVA.display(point, 8, 0.5,0.3,0.5, 0.01);
+        ParticleEffect.SMOKE_LARGE.display(point, 10, 0.4,0.3,0.4, 0.01);
+
+        // Damage nearby enemies
+        SpatialIndex.of(world).querySphere(point.getX(), point.getY(), point.getZ(), 2.5, hits);
+
+        for (LivingEntity entity : hits) {
+            if (entity instanceof Player target && !target.equals(player)) {
+                target.damage(damage, player);
+                target.setFireTicks(100);
             }
-        }.runTaskTimer(SpellCraftPlugin.getInstance(), 0, 1);
+        }
 
-        return SpellResult.SUCCESS;
+        // Dragon roar along path
+        if (distance % 5 == 0) {
+            world.playSound(point, Sound.ENTITY_BLAZE_SHOOT, 0.7f, 0.7f);
+        }
+
+        distance += 0.8;
     }
 
-    @Override public void progress() {}
     @Override protected void onLoad() {}
     @Override protected void onStop() {}
     @Override public boolean isSneakingAbility() { return false; }
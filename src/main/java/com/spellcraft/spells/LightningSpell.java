@@ -6,12 +6,14 @@ import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.RayTrace;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
-import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 public class LightningSpell extends AbstractSpell {
@@ -31,14 +33,29 @@ public class LightningSpell extends AbstractSpell {
         );
     }
 
+    private LightningSpell(LightningSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull LightningSpell createInstance() {
+        return new LightningSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
 
-        RayTraceResult result = player.rayTraceBlocks(range);
-        if (result == null || result.getHitBlock() == null) return SpellResult.INVALID_TARGET;
+        Location eye = player.getEyeLocation();
+        Vector direction = eye.getDirection();
 
-        Block targetBlock = result.getHitBlock();
+        Block targetBlock = RayTrace.firstBlock(
+                player.getWorld(),
+                eye.getX(), eye.getY(), eye.getZ(),
+                direction.getX(), direction.getY(), direction.getZ(),
+                range, Material::isSolid
+        );
+        if (targetBlock == null) return SpellResult.INVALID_TARGET;
         currentLocation = targetBlock.getLocation().clone().add(0, 1, 0);
 
         player.getWorld().strikeLightning(currentLocation);
@@ -47,7 +64,10 @@ public class LightningSpell extends AbstractSpell {
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
 
     @Override
     protected void onLoad() {}
@@ -6,9 +6,9 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.SmallFireball;
@@ -42,6 +42,15 @@ public class MagmaBarrageSpell extends AbstractSpell implements Listener {
         Bukkit.getPluginManager().registerEvents(this, SpellCraftPlugin.getInstance());
     }
 
+    private MagmaBarrageSpell(MagmaBarrageSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull MagmaBarrageSpell createInstance() {
+        return new MagmaBarrageSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
@@ -60,7 +69,7 @@ public class MagmaBarrageSpell extends AbstractSpell implements Listener {
             fireball.setCustomName("MagmaShot");
         }
 
-        player.getWorld().spawnParticle(Particle.LAVA, player.getLocation(), 40, 1,1,1);
+        ParticleEffect.LAVA.display(player.getLocation(), 40, 1,1,1, 1);
         player.playSound(player.getLocation(), Sound.ENTITY_BLAZE_SHOOT, 1f, 0.9f);
 
         return SpellResult.SUCCESS;
@@ -83,12 +92,12 @@ public class MagmaBarrageSpell extends AbstractSpell implements Listener {
             target.damage(damageAmount);
             target.setFireTicks(60); // burn 3 seconds
 
-            target.getWorld().spawnParticle(Particle.FLAME, target.getLocation().add(0,1,0), 20,0.4,0.4,0.4);
+            ParticleEffect.FLAME.display(target.getLocation().add(0,1,0), 20,0.4,0.4,0.4, 1);
             target.getWorld().playSound(target.getLocation(), Sound.ENTITY_BLAZE_HURT, 1f,1f);
         }
     }
 
-    @Override public void progress() {}
+    @Override public void progress() { remove(); }
     @Override protected void onLoad() {}
     @Override protected void onStop() {}
     @Override public boolean isSneakingAbility() { return false; }
@@ -6,14 +6,13 @@ import com.spellcraft.api.SpellCategory;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
@@ -23,6 +22,10 @@ public class ShadowTentaclesSpell extends AbstractSpell {
     private final double range = 16;
     private final double damage = 6.0;
 
+    private Player player;
+    private Player target;
+    private int ticks;
+
     public ShadowTentaclesSpell() {
         super(
                 "ShadowTentacles",
@@ -36,47 +39,30 @@ public class ShadowTentaclesSpell extends AbstractSpell {
         );
     }
 
+    private ShadowTentaclesSpell(ShadowTentaclesSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull ShadowTentaclesSpell createInstance() {
+        return new ShadowTentaclesSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
-        Player player = caster.getPlayer();
+        player = caster.getPlayer();
         currentLocation = player.getLocation().clone();
 
-        Player target = getTarget(player, range);
+        target = getTarget(player, range);
         if (target == null) return SpellResult.FAILURE;
 
         World world = player.getWorld();
 
         // Spawn shadow particles
-        world.spawnParticle(Particle.SMOKE_LARGE, target.getLocation(), 30, 0.6,1,0.6);
+        ParticleEffect.SMOKE_LARGE.display(target.getLocation(), 30, 0.6,1,0.6, 1);
         world.playSound(target.getLocation(), Sound.ENTITY_ENDERMAN_SCREAM, 1f, 0.6f);
 
-        // Pull effect
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (!target.isOnline() || target.isDead() || ticks > 20) {
-                    cancel();
-                    return;
-                }
-
-                Vector pull = player.getLocation().toVector()
-                        .subtract(target.getLocation().toVector())
-                        .normalize()
-                        .multiply(0.7);
-
-                target.setVelocity(pull);
-
-                target.getWorld().spawnParticle(
-                        Particle.SMOKE_NORMAL,
-                        target.getLocation().add(0, 1, 0),
-                        6, 0.3,0.4,0.3, 0.01
-                );
-
-                ticks++;
-            }
-        }.runTaskTimer(SpellCraftPlugin.getInstance(), 0, 2);
+        ticks = 0;
 
         // Damage when pulled
         target.damage(damage, player);
@@ -102,7 +88,29 @@ public class ShadowTentaclesSpell extends AbstractSpell {
         return closest;
     }
 
-    @Override public void progress() {}
+    @Override
+    public void progress() {
+        // Pull effect, every other tick
+        if (ticks++ % 2 != 0) return;
+
+        if (!target.isOnline() || target.isDead() || ticks > 42) {
+            remove();
+            return;
+        }
+
+        Vector pull = player.getLocation().toVector()
+                .subtract(target.getLocation().toVector())
+                .normalize()
+                .multiply(0.7);
+
+        target.setVelocity(pull);
+
+        ParticleEffect.SMOKE_NORMAL.display(
+                target.getLocation().add(0, 1, 0),
+                6, 0.3,0.4,0.3, 0.01
+        );
+    }
+
     @Override protected void onLoad() {}
     @Override protected void onStop() {}
     @Override public boolean isSneakingAbility() { return false; }
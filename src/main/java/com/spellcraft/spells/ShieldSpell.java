@@ -6,9 +6,9 @@ import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
@@ -20,6 +20,8 @@ public class ShieldSpell extends AbstractSpell {
 
     private Location currentLocation;
 
+    private final int duration;
+
     public ShieldSpell() {
         super(
                 "Shield",
@@ -31,6 +33,18 @@ public class ShieldSpell extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.shield.enabled", true),
                 "Right Click a Block while Sneaking"
         );
+
+        duration = SpellCraftPlugin.getInstance().getConfig().getInt("spells.shield.duration", 200);
+    }
+
+    private ShieldSpell(ShieldSpell definition) {
+        super(definition);
+        this.duration = definition.duration;
+    }
+
+    @Override
+    public @NotNull ShieldSpell createInstance() {
+        return new ShieldSpell(this);
     }
 
     @Override
@@ -39,18 +53,21 @@ public class ShieldSpell extends AbstractSpell {
         currentLocation = player.getLocation().clone();
 
         player.addPotionEffect(new PotionEffect(PotionEffectType.DAMAGE_RESISTANCE,
-                SpellCraftPlugin.getInstance().getConfig().getInt("spells.shield.duration", 200), 1, false, true));
+                duration, 1, false, true));
         player.addPotionEffect(new PotionEffect(PotionEffectType.ABSORPTION,
-                SpellCraftPlugin.getInstance().getConfig().getInt("spells.shield.duration", 200), 1, false, true));
+                duration, 1, false, true));
 
-        player.getWorld().spawnParticle(Particle.ENCHANTMENT_TABLE, currentLocation.add(0, 1, 0), 100, 1.0, 1.0, 1.0);
+        ParticleEffect.ENCHANTMENT_TABLE.display(currentLocation.add(0, 1, 0), 100, 1.0, 1.0, 1.0, 1);
         player.playSound(currentLocation, Sound.BLOCK_ENCHANTMENT_TABLE_USE, 1.0f, 1.0f);
 
         return SpellResult.SUCCESS;
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
 
     @Override
     protected void onLoad() {}
@@ -6,11 +6,13 @@ import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
+import com.spellcraft.util.RayTrace;
 import org.bukkit.*;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.Action;
-import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
 public class TeleportSpell extends AbstractSpell {
@@ -30,14 +32,29 @@ public class TeleportSpell extends AbstractSpell {
         );
     }
 
+    private TeleportSpell(TeleportSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull TeleportSpell createInstance() {
+        return new TeleportSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
 
-        RayTraceResult result = player.rayTraceBlocks(range);
-        if (result == null || result.getHitBlock() == null) return SpellResult.INVALID_TARGET;
+        Location eye = player.getEyeLocation();
+        Vector direction = eye.getDirection();
 
-        Block targetBlock = result.getHitBlock();
+        Block targetBlock = RayTrace.firstBlock(
+                player.getWorld(),
+                eye.getX(), eye.getY(), eye.getZ(),
+                direction.getX(), direction.getY(), direction.getZ(),
+                range, Material::isSolid
+        );
+        if (targetBlock == null) return SpellResult.INVALID_TARGET;
         Location teleportLocation = targetBlock.getLocation().clone().add(0, 1, 0);
 
         if (teleportLocation.getBlock().getType() != Material.AIR ||
@@ -48,12 +65,12 @@ public class TeleportSpell extends AbstractSpell {
         teleportLocation.setYaw(player.getLocation().getYaw());
         teleportLocation.setPitch(player.getLocation().getPitch());
 
-        player.getWorld().spawnParticle(Particle.PORTAL, player.getLocation().add(0, 1, 0), 50, 0.5, 0.5, 0.5);
+        ParticleEffect.PORTAL.display(player.getLocation().add(0, 1, 0), 50, 0.5, 0.5, 0.5, 1);
         player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
 
         player.teleport(teleportLocation);
 
-        player.getWorld().spawnParticle(Particle.PORTAL, teleportLocation.add(0, 1, 0), 50, 0.5, 0.5, 0.5);
+        ParticleEffect.PORTAL.display(teleportLocation.add(0, 1, 0), 50, 0.5, 0.5, 0.5, 1);
         player.playSound(teleportLocation, Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
 
         currentLocation = teleportLocation.clone();
@@ -62,7 +79,10 @@ public class TeleportSpell extends AbstractSpell {
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
 
     @Override
     protected void onLoad() {}
@@ -7,17 +7,22 @@ import com.spellcraft.api.SpellResult;
 import com.spellcraft.SpellCraftPlugin;
 import com.spellcraft.api.*;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
+import com.spellcraft.util.SpatialIndex;
 import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.block.Action;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class VoidReignUltimate extends AbstractSpell {
 
+    private final List<LivingEntity> hits = new ArrayList<>();
     private Location currentLocation;
 
     public VoidReignUltimate() {
@@ -33,25 +38,37 @@ public class VoidReignUltimate extends AbstractSpell {
         );
     }
 
+    private VoidReignUltimate(VoidReignUltimate definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull VoidReignUltimate createInstance() {
+        return new VoidReignUltimate(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         if (!isEnabled()) return SpellResult.FAILURE;
 
         currentLocation = caster.getPlayer().getLocation().clone();
 
-        ThreadUtil.runAsync(() -> {
+        // Runs inline, the caster's thread owns the location
+        ThreadUtil.ensureLocation(currentLocation, () -> {
             // Particle effect
             for (int i = 0; i < 50; i++) {
                 double offsetX = Math.random() * 10 - 5;
                 double offsetZ = Math.random() * 10 - 5;
                 Location loc = currentLocation.clone().add(offsetX, 1, offsetZ);
-                loc.getWorld().spawnParticle(Particle.SMOKE_LARGE, loc, 5);
-                loc.getWorld().spawnParticle(Particle.PORTAL, loc, 3);
+                ParticleEffect.SMOKE_LARGE.display(loc, 5, 0, 0, 0, 1);
+                ParticleEffect.PORTAL.display(loc, 3, 0, 0, 0, 1);
             }
 
             // Damage nearby entities
-            for (Entity e : currentLocation.getWorld().getNearbyEntities(currentLocation, 8, 4, 8)) {
-                if (e instanceof LivingEntity target && target != caster.getPlayer()) {
+            SpatialIndex.of(currentLocation.getWorld()).queryBox(currentLocation.getX(), currentLocation.getY(),
+                    currentLocation.getZ(), 8, 4, 8, hits);
+            for (LivingEntity target : hits) {
+                if (target != caster.getPlayer()) {
                     target.damage(8 + caster.getMagicPower() * 0.3, caster.getPlayer());
                 }
             }
@@ -64,7 +81,10 @@ public class VoidReignUltimate extends AbstractSpell {
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        // Instant spell, nothing to progress
+        remove();
+    }
 
     @Override
     protected void onLoad() {}
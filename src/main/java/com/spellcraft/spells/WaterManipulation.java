@@ -7,8 +7,8 @@ import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
 import com.spellcraft.util.DamageHandler;
+import com.spellcraft.util.SpatialIndex;
 import com.spellcraft.util.TempBlock;
-import com.spellcraft.util.ThreadUtil;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -18,20 +18,24 @@ import org.bukkit.event.block.Action;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class WaterManipulation extends AbstractSpell {
 
     private Location currentLoc;
     private Location origin;
     private Vector direction;
 
+    private final List<LivingEntity> hits = new ArrayList<>();
     private TempBlock water;
     private Player player;
 
-    private double speed;
-    private double damage;
-    private double hitRadius;
-    private int maxTicks;
-    private double range;
+    private final double speed;
+    private final double damage;
+    private final double hitRadius;
+    private final int maxTicks;
+    private final double range;
 
     private int lived;
 
@@ -46,12 +50,6 @@ public class WaterManipulation extends AbstractSpell {
                 SpellCraftPlugin.getInstance().getConfig().getBoolean("spells.watermanipulation.enabled"),
                 "Left click to launch, hold sneak to control"
         );
-    }
-
-    @Override
-    protected SpellResult execute(SpellCaster caster) {
-
-        player = caster.getPlayer();
 
         var config = SpellCraftPlugin.getInstance().getConfig();
 
@@ -60,6 +58,26 @@ public class WaterManipulation extends AbstractSpell {
         hitRadius = config.getDouble("spells.watermanipulation.hit-radius");
         maxTicks = config.getInt("spells.watermanipulation.max-ticks");
         range = getRange();
+    }
+
+    private WaterManipulation(WaterManipulation definition) {
+        super(definition);
+        this.speed = definition.speed;
+        this.damage = definition.damage;
+        this.hitRadius = definition.hitRadius;
+        this.maxTicks = definition.maxTicks;
+        this.range = definition.range;
+    }
+
+    @Override
+    public @NotNull WaterManipulation createInstance() {
+        return new WaterManipulation(this);
+    }
+
+    @Override
+    protected SpellResult execute(SpellCaster caster) {
+
+        player = caster.getPlayer();
 
         origin = player.getEyeLocation();
         currentLoc = origin.clone();
@@ -70,14 +88,11 @@ public class WaterManipulation extends AbstractSpell {
 
         water = new TempBlock(block, Material.WATER);
 
-        lived = 0;
-
-        ThreadUtil.ensureLocationTimer(currentLoc, this::progressWater, 0, 1);
-
         return SpellResult.SUCCESS;
     }
 
-    private void progressWater() {
+    @Override
+    public void progress() {
 
         if (!player.isOnline() || player.isDead()) {
             remove();
@@ -110,10 +125,10 @@ public class WaterManipulation extends AbstractSpell {
         water.revert();
         water = new TempBlock(block, Material.WATER);
 
-        for (var entity : currentLoc.getWorld().getNearbyEntities(currentLoc, hitRadius, hitRadius, hitRadius)) {
+        SpatialIndex.of(currentLoc.getWorld())
+                .querySphere(currentLoc.getX(), currentLoc.getY(), currentLoc.getZ(), hitRadius, hits);
 
-            if (!(entity instanceof LivingEntity living))
-                continue;
+        for (LivingEntity living : hits) {
 
             if (living.equals(player))
                 continue;
@@ -143,10 +158,6 @@ public class WaterManipulation extends AbstractSpell {
         super.remove();
     }
 
-    @Override
-    public void progress() {
-    }
-
     @Override
     protected void onLoad() {
     }
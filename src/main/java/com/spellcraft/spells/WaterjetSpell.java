@@ -6,9 +6,9 @@ import com.spellcraft.api.SpellCaster;
 import com.spellcraft.api.SpellResult;
 import com.spellcraft.api.magic.MagicElement;
 import com.spellcraft.core.AbstractSpell;
+import com.spellcraft.util.ParticleEffect;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Snowball;
@@ -20,6 +20,8 @@ public class WaterjetSpell extends AbstractSpell {
 
     private Location currentLocation;
 
+    private Snowball waterOrb;
+
     public WaterjetSpell() {
         super(
                 "Waterjet",
@@ -33,32 +35,39 @@ public class WaterjetSpell extends AbstractSpell {
         );
     }
 
+    private WaterjetSpell(WaterjetSpell definition) {
+        super(definition);
+    }
+
+    @Override
+    public @NotNull WaterjetSpell createInstance() {
+        return new WaterjetSpell(this);
+    }
+
     @Override
     protected SpellResult execute(SpellCaster caster) {
         Player player = caster.getPlayer();
         currentLocation = player.getEyeLocation().clone();
 
-        Snowball waterOrb = player.launchProjectile(Snowball.class);
+        waterOrb = player.launchProjectile(Snowball.class);
         waterOrb.setShooter(player);
 
         Vector direction = player.getLocation().getDirection().multiply(1.5);
         waterOrb.setVelocity(direction);
 
-        Bukkit.getScheduler().runTaskTimer(SpellCraftPlugin.getInstance(), task -> {
-            if (waterOrb.isDead() || !waterOrb.isValid()) {
-                task.cancel();
-                return;
-            }
-            waterOrb.getWorld().spawnParticle(Particle.WATER_SPLASH, waterOrb.getLocation(), 5, 0.2, 0.2, 0.2);
-        }, 0L, 1L);
-
         player.playSound(currentLocation, Sound.ENTITY_SPLASH_POTION_THROW, 1.0f, 1.2f);
 
         return SpellResult.SUCCESS;
     }
 
     @Override
-    public void progress() {}
+    public void progress() {
+        if (waterOrb.isDead() || !waterOrb.isValid()) {
+            remove();
+            return;
+        }
+        ParticleEffect.WATER_SPLASH.display(waterOrb.getLocation(), 5, 0.2, 0.2, 0.2, 1);
+    }
 
     @Override
     protected void onLoad() {}
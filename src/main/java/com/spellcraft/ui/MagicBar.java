@@ -7,35 +7,40 @@ import com.spellcraft.util.ThreadUtil;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles the display and automatic updating of Magic Bars for players.
  * <p>
- * Each player has a boss bar representing their current magic. Bars are updated
- * on a configurable interval and automatically regenerate magic based on configuration.
+ * Each player has a boss bar representing their current magic. Bars are shown when a
+ * player's caster has loaded and torn down when they leave. A single task checks the
+ * bars on a configurable interval and only touches a bar when its displayed magic or
+ * colour changed. Magic regeneration is derived by each caster when read,
+ * see {@link com.spellcraft.core.MagicRegen}.
  */
 public class MagicBar {
 
+    /** Number of distinct progress positions, finer changes are not sent to the client. */
+    private static final int PROGRESS_STEPS = 100;
+
     /** Reference to the main plugin instance. */
     private final SpellCraftPlugin plugin;
 
     /** Manager responsible for retrieving SpellCaster objects for players. */
     private final SpellCasterManager casterManager;
 
-    /** Map of player UUIDs to their current boss bar. */
-    private final Map<UUID, BossBar> magicBars;
+    /** Map of player UUIDs to their boss bar and what it currently shows. */
+    private final Map<UUID, BarState> magicBars;
 
     /** Task responsible for updating the bars each tick interval. */
     private ThreadUtil.ThreadTask updateTask;
 
-    /** Task responsible for regenerating magic periodically. */
-    private ThreadUtil.ThreadTask regenTask;
+    /** Whether bars are shown at all, see {@code ui.show-magic-bar}. */
+    private volatile boolean enabled;
 
     /**
      * Constructs a MagicBar manager.
@@ -46,64 +51,53 @@ public class MagicBar {
     public MagicBar(SpellCraftPlugin plugin, SpellCasterManager casterManager) {
         this.plugin = plugin;
         this.casterManager = casterManager;
-        this.magicBars = new HashMap<>();
+        this.magicBars = new ConcurrentHashMap<>();
     }
 
     /**
-     * Starts the MagicBar system:
-     * <ul>
-     *     <li>Schedules a repeating task to update all player bars.</li>
-     *     <li>Schedules a repeating task to regenerate magic for all players.</li>
-     * </ul>
+     * Starts the MagicBar system by scheduling a repeating task to refresh the shown bars.
      */
     public void start() {
+        enabled = plugin.getConfig().getBoolean("ui.show-magic-bar", true);
+        if (!enabled) return;
+
         int updateInterval = plugin.getConfig().getInt("magic.update-interval", 10);
-        int regenInterval = plugin.getConfig().getInt("magic.regen-interval", 40);
-        int regenAmount = plugin.getConfig().getInt("magic.regen-amount", 2);
 
-        // Update the boss bars for all online players
         updateTask = ThreadUtil.runGlobalTimer(() -> {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                SpellCaster caster = casterManager.getCaster(player);
-                showForPlayer(player, caster);
+            for (BarState state : magicBars.values()) {
+                SpellCaster caster = casterManager.getCasterIfLoaded(state.player.getUniqueId());
+                if (caster != null) update(state, caster);
             }
         }, 0L, updateInterval);
-
-        // Regenerate magic for all online players
-        regenTask = ThreadUtil.runGlobalTimer(() -> {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                SpellCaster caster = casterManager.getCaster(player);
-                int bonus = plugin.getPerkManager().getBonusRegen(caster);
-                caster.regenerateMagic(regenAmount + bonus);
-            }
-        }, 0L, regenInterval);
     }
 
     /**
      * Stops all MagicBar functionality:
      * <ul>
-     *     <li>Cancels the update and regeneration tasks.</li>
+     *     <li>Cancels the update task.</li>
      *     <li>Hides all active boss bars from players.</li>
      *     <li>Clears all internal state.</li>
      * </ul>
      */
     public void stop() {
         if (updateTask != null) updateTask.cancel();
-        if (regenTask != null) regenTask.cancel();
+        updateTask = null;
 
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            BossBar bar = magicBars.get(player.getUniqueId());
-            if (bar != null) SpellCraftPlugin.getAdventure().player(player).hideBossBar(bar);
+        for (BarState state : magicBars.values()) {
+            SpellCraftPlugin.getAdventure().player(state.player).hideBossBar(state.bar);
         }
         magicBars.clear();
     }
 
     /**
-     * Updates the MagicBar display for a specific player.
+     * Shows the MagicBar for a player and brings it up to date.
+     * Does nothing if magic bars are disabled.
      *
      * @param player the player to update
      */
     public void showForPlayer(Player player) {
+        if (!enabled) return;
+
         SpellCaster caster = casterManager.getCaster(player);
         if (caster != null) {
             showForPlayer(player, caster);
@@ -111,46 +105,105 @@ public class MagicBar {
     }
 
     /**
-     * Updates the MagicBar display for a player with a specific caster.
-     * <p>
-     * Handles creating a new bar if none exists, updating the progress, color,
-     * and display name.
+     * Hides and forgets a player's MagicBar, e.g. when they leave.
+     *
+     * @param player the player whose bar to remove
+     */
+    public void hide(Player player) {
+        BarState state = magicBars.remove(player.getUniqueId());
+        if (state != null) {
+            SpellCraftPlugin.getAdventure().player(player).hideBossBar(state.bar);
+        }
+    }
+
+    /**
+     * Shows the MagicBar for a player with a specific caster,
+     * creating a new bar if none exists.
      *
      * @param player the player to update
      * @param caster the SpellCaster representing the player's magic
      */
     private void showForPlayer(Player player, SpellCaster caster) {
-        BossBar bar = magicBars.get(player.getUniqueId());
-
-        // Create a new bar if the player does not already have one
-        if (bar == null) {
-            bar = BossBar.bossBar(
+        BarState state = magicBars.computeIfAbsent(player.getUniqueId(), uuid -> {
+            BarState created = new BarState(player, BossBar.bossBar(
                     Component.text("Magic", NamedTextColor.LIGHT_PURPLE),
                     1.0f,
                     BossBar.Color.BLUE,
                     BossBar.Overlay.PROGRESS
-            );
-            magicBars.put(player.getUniqueId(), bar);
-            SpellCraftPlugin.getAdventure().player(player).showBossBar(bar);
+            ));
+            SpellCraftPlugin.getAdventure().player(player).showBossBar(created.bar);
+            return created;
+        });
+
+        update(state, caster);
+    }
+
+    /**
+     * Updates the parts of a bar whose displayed value changed:
+     * the name on any change of magic, the progress when it moves a step,
+     * and the colour when it crosses a threshold.
+     * <p>
+     * Runs from the update task and from the player's thread when a bar is shown.
+     */
+    private void update(BarState state, SpellCaster caster) {
+        int magic = caster.getMagic();
+        int max = caster.getMaxMagic();
+
+        synchronized (state) {
+            if (magic == state.magic && max == state.max) return;
+            apply(state, magic, max);
         }
+    }
 
-        // Update progress
-        float progress = (float) caster.getMagic() / caster.getMaxMagic();
-        bar.progress(Math.max(0.0f, Math.min(1.0f, progress)));
+    private void apply(BarState state, int magic, int max) {
+        state.magic = magic;
+        state.max = max;
+
+        BossBar bar = state.bar;
 
         // Update the bar's display name
         bar.name(Component.text(
-                "Magic: " + caster.getMagic() + " / " + caster.getMaxMagic(),
+                "Magic: " + magic + " / " + max,
                 NamedTextColor.AQUA
         ));
 
+        // Update progress
+        float progress = Math.max(0.0f, Math.min(1.0f, max > 0 ? (float) magic / max : 0.0f));
+        int step = Math.round(progress * PROGRESS_STEPS);
+        if (step != state.step) {
+            state.step = step;
+            bar.progress(progress);
+        }
+
         // Change the bar color based on magic percentage
+        BossBar.Color color;
         if (progress > 0.5f) {
-            bar.color(BossBar.Color.BLUE);
+            color = BossBar.Color.BLUE;
         } else if (progress > 0.25f) {
-            bar.color(BossBar.Color.YELLOW);
+            color = BossBar.Color.YELLOW;
         } else {
-            bar.color(BossBar.Color.RED);
+            color = BossBar.Color.RED;
+        }
+        if (color != state.color) {
+            state.color = color;
+            bar.color(color);
+        }
+    }
+
+    /** A shown bar and the values it last displayed. */
+    private static final class BarState {
+
+        final Player player;
+        final BossBar bar;
+
+        int magic = -1;
+        int max = -1;
+        int step = -1;
+        BossBar.Color color;
+
+        BarState(Player player, BossBar bar) {
+            this.player = player;
+            this.bar = bar;
         }
     }
 }
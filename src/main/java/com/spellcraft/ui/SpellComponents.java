@@ -0,0 +1,47 @@
+package com.spellcraft.ui;
+
+import com.spellcraft.api.Spell;
+import com.spellcraft.api.magic.MagicElement;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared, immutable components for messages sent while casting.
+ * <p>
+ * Adventure components are immutable, so fixed messages are built once and spell
+ * names are cached per element instead of being rebuilt on every hotbar swap or cast.
+ */
+public final class SpellComponents {
+
+    public static final Component WRONG_HOUSE = Component.text("Your house cannot use this magic", NamedTextColor.RED);
+    public static final Component NOT_ENOUGH_MAGIC = Component.text("Not enough magic! Need ", NamedTextColor.RED);
+    public static final Component ON_COOLDOWN = Component.text("Spell on cooldown! ", NamedTextColor.RED);
+    public static final Component NO_PERMISSION = Component.text("You don't have permission to cast this spell!", NamedTextColor.RED);
+    public static final Component STILL_LOADING = Component.text("Your spells are still loading...", NamedTextColor.GRAY);
+    public static final Component INVALID_TARGET = Component.text("Invalid target for this spell!", NamedTextColor.RED);
+    public static final Component CAST_FAILED = Component.text("Failed to cast spell!", NamedTextColor.RED);
+
+    /** Spell names by element, coloured in that element's colour */
+    private static final Map<MagicElement, Map<String, Component>> NAMES = new ConcurrentHashMap<>();
+    /** Names of spells without an element */
+    private static final Map<String, Component> PLAIN_NAMES = new ConcurrentHashMap<>();
+
+    /** Private constructor to prevent instantiation. */
+    private SpellComponents() {}
+
+    /**
+     * @return the spell's name coloured by its element, white if it has none
+     */
+    public static Component name(Spell spell) {
+        MagicElement element = spell.getElement();
+        if (element == null) {
+            return PLAIN_NAMES.computeIfAbsent(spell.getName(), name -> Component.text(name, NamedTextColor.WHITE));
+        }
+
+        return NAMES.computeIfAbsent(element, e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(spell.getName(), name -> Component.text(name, element.getColor()));
+    }
+}
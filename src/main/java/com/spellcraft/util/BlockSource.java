@@ -4,6 +4,7 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
 
 /**
  * Utility class for finding a block that can serve as a "source" for spells.
@@ -16,7 +17,7 @@ public final class BlockSource {
 
     /**
      * Gets the first valid source {@link Block} in front of the {@link Player} within a given range.
-     * Checks blocks along the player's line of sight in 0.5 block increments.
+     * Walks every block along the player's line of sight with {@link RayTrace}.
      *
      * @param player the {@link Player} to check from
      * @param range the maximum range to search for a source block
@@ -24,26 +25,24 @@ public final class BlockSource {
      */
     public static Block getSourceBlock(Player player, double range) {
         Location eye = player.getEyeLocation();
-        for (double i = 0; i <= range; i += 0.5) {
-            Location loc = eye.clone().add(eye.getDirection().multiply(i));
-            Block block = loc.getBlock();
+        Vector direction = eye.getDirection();
 
-            if (isValidSource(block)) {
-                return block;
-            }
-        }
-        return null;
+        return RayTrace.firstBlock(
+                eye.getWorld(),
+                eye.getX(), eye.getY(), eye.getZ(),
+                direction.getX(), direction.getY(), direction.getZ(),
+                range, BlockSource::isValidSource
+        );
     }
 
     /**
      * Determines if a block is a valid source block for spells.
      * Valid types include WATER, LAVA, FIRE, and STONE.
      *
-     * @param block the {@link Block} to check
+     * @param type the {@link Material} of the block to check
      * @return true if the block is a valid source, false otherwise
      */
-    private static boolean isValidSource(Block block) {
-        Material type = block.getType();
+    private static boolean isValidSource(Material type) {
         return type == Material.WATER
                 || type == Material.LAVA
                 || type == Material.FIRE
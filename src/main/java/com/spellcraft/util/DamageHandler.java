@@ -13,6 +13,8 @@ import org.bukkit.entity.Player;
  */
 public final class DamageHandler {
 
+    private static final EventGateway DAMAGE_EVENTS = EventGateway.of(SpellPlayerDamageEvent.getHandlerList());
+
     /** Private constructor to prevent instantiation. */
     private DamageHandler() {}
 
@@ -39,6 +41,11 @@ public final class DamageHandler {
         if (target instanceof Player player) {
             if (player.isInvulnerable()) return;
 
+            if (!DAMAGE_EVENTS.hasListeners()) {
+                player.damage(damage, caster);
+                return;
+            }
+
             SpellPlayerDamageEvent event =
                     new SpellPlayerDamageEvent(caster, player, spellName, element, damage);
 
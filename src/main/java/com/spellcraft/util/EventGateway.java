@@ -0,0 +1,39 @@
+package com.spellcraft.util;
+
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tells whether anyone listens to an event type, so hot paths can skip building and
+ * dispatching events nobody consumes.
+ * <p>
+ * {@link HandlerList#getRegisteredListeners()} returns a cached array that is only rebuilt
+ * when listeners change, so the check is a plain read and always sees listeners registered
+ * at runtime, including ones that cancel events.
+ * <pre>{@code
+ * if (SPELL_EVENTS.hasListeners()) Bukkit.getPluginManager().callEvent(new SpellFailEvent(...));
+ * }</pre>
+ */
+public final class EventGateway {
+
+    private final HandlerList handlers;
+
+    private EventGateway(HandlerList handlers) {
+        this.handlers = handlers;
+    }
+
+    /**
+     * @param handlers the {@link HandlerList} of the event type, as returned by its {@code getHandlerList()}
+     * @return a gateway for that event type
+     */
+    public static EventGateway of(@NotNull HandlerList handlers) {
+        return new EventGateway(handlers);
+    }
+
+    /**
+     * @return true if at least one listener is registered for the event type
+     */
+    public boolean hasListeners() {
+        return handlers.getRegisteredListeners().length > 0;
+    }
+}
@@ -0,0 +1,282 @@
+package com.spellcraft.util;
+
+import com.spellcraft.SpellCraftPlugin;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+
+/**
+ * Hierarchical timing wheel for timed cleanup, such as temp block reverts and despawns.
+ * <p>
+ * Four levels of 64 slots cover 64, 4096, 262144 and 16777216 ticks. An expiry is placed in
+ * the lowest level whose range covers its delay and moves down one level each time the level
+ * above it turns over, so inserting and cancelling cost the same no matter how many expiries
+ * are pending, and each tick only visits the slot that is due. Longer delays wait in the top
+ * level and are placed again when reached.
+ * <p>
+ * Expiries can be added from any thread, they are handed to the wheel through a queue read
+ * by its global tick task. Cancelling only marks the expiry, it is dropped when its slot is
+ * reached. Due actions run on the thread owning their location or entity. Location actions
+ * due together are grouped by chunk, and each chunk's actions run as one task inside a
+ * {@link TempBlockBatch}, so a burst of timed reverts becomes one task and one batch per chunk.
+ */
+public final class ExpiryWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private static final Queue<Expiry> INBOX = new ConcurrentLinkedQueue<>();
+
+    /** Slot heads by level, each slot is a singly linked list. Only touched by the tick task. */
+    private static final Expiry[][] WHEEL = new Expiry[LEVELS][SLOTS];
+
+    private static long current = Long.MIN_VALUE;
+    private static int pending;
+    private static ThreadUtil.ThreadTask task;
+
+    /** Private constructor to prevent instantiation. */
+    private ExpiryWheel() {}
+
+    /**
+     * Starts the tick task. Expiries added before it runs wait in the queue.
+     */
+    public static void start() {
+        if (task != null) return;
+        task = ThreadUtil.runGlobalTimer(() -> advance(TickClock.now()), 1L, 1L, "Expiry Wheel");
+    }
+
+    /**
+     * Stops the tick task. Pending expiries are kept but do not fire.
+     */
+    public static void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * Runs an action on the global thread after a delay.
+     *
+     * @param delay ticks until the action runs
+     * @param action the action to run
+     * @return a handle to cancel the expiry
+     */
+    public static Expiry schedule(long delay, @NotNull Runnable action) {
+        return add(new Expiry(action, null, null), delay);
+    }
+
+    /**
+     * Runs an action on the thread owning a location after a delay.
+     *
+     * @param location the location the action touches
+     * @param delay ticks until the action runs
+     * @param action the action to run
+     * @return a handle to cancel the expiry
+     */
+    public static Expiry schedule(@NotNull Location location, long delay, @NotNull Runnable action) {
+        return add(new Expiry(action, location.clone(), null), delay);
+    }
+
+    /**
+     * Runs an action on the thread owning an entity after a delay.
+     *
+     * @param entity the entity the action touches
+     * @param delay ticks until the action runs
+     * @param action the action to run
+     * @return a handle to cancel the expiry
+     */
+    public static Expiry schedule(@NotNull Entity entity, long delay, @NotNull Runnable action) {
+        return add(new Expiry(action, null, entity), delay);
+    }
+
+    /**
+     * @return the number of expiries placed in the wheel, including cancelled ones not yet dropped
+     */
+    public static int getPendingCount() {
+        return pending + INBOX.size();
+    }
+
+    private static Expiry add(Expiry expiry, long delay) {
+        expiry.deadline = TickClock.now() + Math.max(1, delay);
+        INBOX.add(expiry);
+        return expiry;
+    }
+
+    /**
+     * Processes every tick up to and including {@code now}.
+     * Called once per tick by the global task.
+     */
+    static void advance(long now) {
+        if (current == Long.MIN_VALUE) current = now - 1;
+
+        Expiry expiry;
+        while ((expiry = INBOX.poll()) != null) {
+            if (!expiry.cancelled) place(expiry, current + 1);
+        }
+
+        Map<UUID, Map<Long, List<Expiry>>> byChunk = new HashMap<>();
+        while (current < now) {
+            tick(byChunk);
+        }
+
+        for (Map<Long, List<Expiry>> chunks : byChunk.values()) {
+            for (List<Expiry> due : chunks.values()) {
+                ThreadUtil.ensureLocation(due.getFirst().location, () -> runChunk(due));
+            }
+        }
+    }
+
+    /** Runs the due location actions of one chunk on its thread, applying their block writes together */
+    private static void runChunk(List<Expiry> due) {
+        try (TempBlockBatch batch = TempBlockBatch.open()) {
+            for (Expiry expiry : due) {
+                expiry.run();
+            }
+        }
+    }
+
+    /**
+     * Advances the wheel by one tick, firing the expiries due at it.
+     * Location actions are added to {@code byChunk} instead of being run.
+     */
+    private static void tick(Map<UUID, Map<Long, List<Expiry>>> byChunk) {
+        current++;
+        // Turn over the upper levels first, so expiries due this tick reach level 0
+        for (int level = 1; level < LEVELS; level++) {
+            if ((current & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+            cascade(level, (int) (current >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        int slot = (int) current & SLOT_MASK;
+        Expiry head = WHEEL[0][slot];
+        WHEEL[0][slot] = null;
+        while (head != null) {
+            Expiry next = head.next;
+            head.next = null;
+            pending--;
+            if (head.deadline <= current) {
+                head.fire(byChunk);
+            } else {
+                place(head, current + 1);
+            }
+            head = next;
+        }
+    }
+
+    private static void cascade(int level, int slot) {
+        Expiry head = WHEEL[level][slot];
+        WHEEL[level][slot] = null;
+        while (head != null) {
+            Expiry next = head.next;
+            head.next = null;
+            pending--;
+            if (!head.cancelled) place(head, current);
+            head = next;
+        }
+    }
+
+    /**
+     * Puts an expiry in the slot covering its deadline.
+     *
+     * @param earliest the first tick it may still fire at, overdue expiries are placed there
+     */
+    private static void place(Expiry expiry, long earliest) {
+        long deadline = Math.max(expiry.deadline, earliest);
+        long delay = Math.min(deadline - current, MAX_DELAY);
+        long slotTick = current + delay;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) level++;
+
+        int slot = (int) (slotTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+        expiry.next = WHEEL[level][slot];
+        WHEEL[level][slot] = expiry;
+        pending++;
+    }
+
+    /**
+     * A pending timed action.
+     */
+    public static final class Expiry {
+
+        private final Runnable action;
+        private final Location location;
+        private final Entity entity;
+
+        private long deadline;
+        private Expiry next;
+        private volatile boolean cancelled;
+
+        private Expiry(Runnable action, Location location, Entity entity) {
+            this.action = action;
+            this.location = location;
+            this.entity = entity;
+        }
+
+        /**
+         * Cancels the expiry. Has no effect once it has fired.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /** @return true if the expiry was cancelled or has fired */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /** @return the tick of {@link TickClock} this expiry is due at */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Cancels this expiry when a scope closes.
+         *
+         * @param scope the owning {@link TaskScope}
+         * @return this expiry
+         */
+        public Expiry ownedBy(@NotNull TaskScope scope) {
+            scope.onClose(this::cancel);
+            return this;
+        }
+
+        private void fire(Map<UUID, Map<Long, List<Expiry>>> byChunk) {
+            if (cancelled) return;
+
+            if (entity != null) {
+                ThreadUtil.ensureEntity(entity, this::run);
+            } else if (location != null && location.getWorld() != null) {
+                long chunk = ((long) (location.getBlockX() >> 4) << 32) | ((location.getBlockZ() >> 4) & 0xFFFFFFFFL);
+                byChunk.computeIfAbsent(location.getWorld().getUID(), uid -> new HashMap<>())
+                        .computeIfAbsent(chunk, key -> new ArrayList<>())
+                        .add(this);
+            } else {
+                run();
+            }
+        }
+
+        /** Runs the action unless cancelled since it became due, on the thread owning its target */
+        private void run() {
+            if (cancelled) return;
+            cancelled = true;
+
+            try {
+                action.run();
+            } catch (Exception e) {
+                SpellCraftPlugin.log.log(Level.WARNING, "Error in expiry", e);
+            }
+        }
+    }
+}
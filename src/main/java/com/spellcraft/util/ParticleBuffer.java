@@ -0,0 +1,440 @@
+package com.spellcraft.util;
+
+import com.spellcraft.SpellCraftPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+
+import static com.cjcrafter.foliascheduler.util.ServerVersions.isFolia;
+
+/**
+ * Per-tick buffer behind {@link ParticleEffect}.
+ * <p>
+ * Emissions can be queued from any thread and are flushed once per tick. The flush groups
+ * them by world and particle type, merges emissions at the same point into one packet, and
+ * sends each viewer only what lies inside their view distance, scaled down to fit a
+ * per-player budget.
+ * <p>
+ * Density is also reduced per viewer by distance tier. Decorative particles are skipped for
+ * far viewers, and viewers with a high ping are moved one tier further out.
+ * <p>
+ * The queue is bounded and its entries are reused, so emitting does not allocate once warmed
+ * up. When the queue is full, emissions are sent directly as without the buffer. On Folia the
+ * flush thread does not own any player, so viewer positions come from {@link ViewerTracker},
+ * which records them on each player's own thread.
+ */
+public final class ParticleBuffer {
+
+    /** Emissions queued at once before further ones are sent directly */
+    private static final int MAX_QUEUED = 16384;
+
+    private static final BlockingQueue<Emission> QUEUE = new ArrayBlockingQueue<>(MAX_QUEUED);
+    /** Flushed emissions kept for reuse */
+    private static final BlockingQueue<Emission> FREE = new ArrayBlockingQueue<>(MAX_QUEUED);
+    /** Viewer positions by player, only kept on Folia */
+    private static final Map<UUID, ViewerPosition> VIEWERS = new ConcurrentHashMap<>();
+    private static final Comparator<Emission> BY_PARTICLE = Comparator.comparingInt(e -> e.particle.ordinal());
+
+    private static volatile boolean enabled = true;
+    private static volatile double viewDistanceSq = 32 * 32;
+    private static volatile int budgetPerPlayer = 600;
+    private static volatile LevelOfDetail lod = LevelOfDetail.DEFAULT;
+
+    private static ThreadUtil.ThreadTask flushTask;
+
+    /** Private constructor to prevent instantiation. */
+    private ParticleBuffer() {}
+
+    /**
+     * Loads the buffer settings.
+     *
+     * @param section the {@code spell-casting.particle-effects} section, or null for defaults
+     */
+    public static void load(@Nullable ConfigurationSection section) {
+        if (section == null) {
+            enabled = true;
+            viewDistanceSq = 32 * 32;
+            budgetPerPlayer = 600;
+            lod = LevelOfDetail.DEFAULT;
+            return;
+        }
+
+        double viewDistance = section.getDouble("view-distance", 32);
+        enabled = section.getBoolean("enabled", true);
+        viewDistanceSq = viewDistance * viewDistance;
+        budgetPerPlayer = Math.max(1, section.getInt("budget-per-player", 600));
+        lod = LevelOfDetail.load(section.getConfigurationSection("lod"));
+    }
+
+    /**
+     * Starts the flush task. Until it runs, particles are sent directly.
+     */
+    public static void start() {
+        if (flushTask != null) return;
+        flushTask = ThreadUtil.runGlobalTimer(ParticleBuffer::flush, 1L, 1L, "Particle Buffer Flush");
+    }
+
+    /**
+     * Stops the flush task and drops anything still queued.
+     */
+    public static void stop() {
+        if (flushTask != null) flushTask.cancel();
+        flushTask = null;
+        QUEUE.clear();
+    }
+
+    /**
+     * Queues a particle emission for the next flush.
+     */
+    static void emit(@NotNull Particle particle, @NotNull World world,
+                     double x, double y, double z, int count,
+                     double offsetX, double offsetY, double offsetZ,
+                     double extra, @Nullable Object data) {
+        if (!enabled) return;
+
+        // Data of the wrong type fails here, in the caller, instead of in the flush
+        if (flushTask == null || (data != null && !particle.getDataType().isInstance(data))) {
+            world.spawnParticle(particle, x, y, z, count, offsetX, offsetY, offsetZ, extra, data);
+            return;
+        }
+
+        Emission emission = FREE.poll();
+        if (emission == null) emission = new Emission();
+        emission.set(particle, world.getUID(), x, y, z, count, offsetX, offsetY, offsetZ, extra, data);
+
+        if (!QUEUE.offer(emission)) {
+            // The flush is behind, send it now rather than letting the queue grow
+            FREE.offer(emission);
+            world.spawnParticle(particle, x, y, z, count, offsetX, offsetY, offsetZ, extra, data);
+        }
+    }
+
+    private static void flush() {
+        if (QUEUE.isEmpty()) return;
+
+        Map<UUID, Map<Emission, Emission>> byWorld = new HashMap<>();
+        Emission emission;
+        while ((emission = QUEUE.poll()) != null) {
+            Map<Emission, Emission> merged = byWorld.computeIfAbsent(emission.world, id -> new LinkedHashMap<>());
+            Emission existing = merged.putIfAbsent(emission, emission);
+            if (existing != null) {
+                existing.count += emission.count;
+                release(emission);
+            }
+        }
+
+        Map<UUID, List<Emission>> sorted = new HashMap<>();
+        int largest = 0;
+        for (Map.Entry<UUID, Map<Emission, Emission>> entry : byWorld.entrySet()) {
+            List<Emission> emissions = new ArrayList<>(entry.getValue().values());
+            emissions.sort(BY_PARTICLE);
+            sorted.put(entry.getKey(), emissions);
+            largest = Math.max(largest, emissions.size());
+        }
+
+        Flush flush = new Flush(largest);
+        if (isFolia()) {
+            for (Map.Entry<UUID, ViewerPosition> entry : VIEWERS.entrySet()) {
+                ViewerPosition position = entry.getValue();
+                List<Emission> emissions = sorted.get(position.world);
+                if (emissions == null) continue;
+
+                Player viewer = Bukkit.getPlayer(entry.getKey());
+                if (viewer != null) flush.send(viewer, position.x, position.y, position.z, position.ping, emissions);
+            }
+        } else {
+            Location location = new Location(null, 0, 0, 0);
+            for (Map.Entry<UUID, List<Emission>> entry : sorted.entrySet()) {
+                World world = Bukkit.getWorld(entry.getKey());
+                if (world == null) continue;
+
+                for (Player viewer : world.getPlayers()) {
+                    viewer.getLocation(location);
+                    flush.send(viewer, location.getX(), location.getY(), location.getZ(), viewer.getPing(), entry.getValue());
+                }
+            }
+        }
+
+        for (List<Emission> emissions : sorted.values()) {
+            for (Emission e : emissions) release(e);
+        }
+        flush.report();
+    }
+
+    private static void release(Emission emission) {
+        emission.data = null;
+        FREE.offer(emission);
+    }
+
+    /**
+     * Per-flush state: reused buffers, and failures to report once at the end.
+     */
+    private static final class Flush {
+
+        private final LevelOfDetail lod = ParticleBuffer.lod;
+        private final List<Emission> visible = new ArrayList<>();
+        private final double[] counts;
+        private int failures;
+        private Exception firstFailure;
+        private Emission firstFailed;
+
+        private Flush(int largest) {
+            this.counts = new double[Math.max(16, largest)];
+        }
+
+        private void send(Player viewer, double x, double y, double z, int ping, List<Emission> emissions) {
+            int tierShift = ping > lod.highPing ? 1 : 0;
+            visible.clear();
+            double total = 0;
+
+            for (Emission e : emissions) {
+                double distanceSq = e.distanceSquared(x, y, z);
+                if (distanceSq > viewDistanceSq) continue;
+
+                double density = lod.density(e.particle, distanceSq, tierShift);
+                if (density <= 0) continue;
+
+                counts[visible.size()] = Math.max(1, e.count) * density;
+                visible.add(e);
+                total += counts[visible.size() - 1];
+            }
+
+            if (visible.isEmpty()) return;
+            double scale = Math.min(1.0, budgetPerPlayer / total);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            for (int i = 0; i < visible.size(); i++) {
+                Emission e = visible.get(i);
+
+                // Thin the emission, keeping the fraction as a chance
+                double scaled = counts[i] * scale;
+                int count = (int) scaled;
+                if (random.nextDouble() < scaled - count) count++;
+                if (count == 0) continue;
+                if (e.count == 0) count = 0;
+
+                // One bad emission must not stop the flush, the timer is cancelled on an exception
+                try {
+                    viewer.spawnParticle(e.particle, e.x, e.y, e.z, count, e.offsetX, e.offsetY, e.offsetZ, e.extra, e.data);
+                } catch (Exception ex) {
+                    if (failures++ == 0) {
+                        firstFailure = ex;
+                        firstFailed = e;
+                    }
+                }
+            }
+        }
+
+        private void report() {
+            if (failures == 0) return;
+            SpellCraftPlugin.log.log(Level.WARNING, "Failed to send " + failures + " particle emissions, first was "
+                    + firstFailed.particle + " with data " + firstFailed.dataType, firstFailure);
+        }
+    }
+
+    /**
+     * Records player positions on their own thread for the flush on Folia.
+     * Registered on Folia only.
+     */
+    public static final class ViewerTracker implements Listener {
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onJoin(PlayerJoinEvent event) {
+            record(event.getPlayer(), event.getPlayer().getLocation());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onMove(PlayerMoveEvent event) {
+            record(event.getPlayer(), event.getTo());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onTeleport(PlayerTeleportEvent event) {
+            record(event.getPlayer(), event.getTo());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onRespawn(PlayerRespawnEvent event) {
+            record(event.getPlayer(), event.getRespawnLocation());
+        }
+
+        @EventHandler
+        public void onQuit(PlayerQuitEvent event) {
+            VIEWERS.remove(event.getPlayer().getUniqueId());
+        }
+
+        private static void record(Player player, Location location) {
+            if (location == null || location.getWorld() == null) return;
+            VIEWERS.put(player.getUniqueId(), new ViewerPosition(location.getWorld().getUID(),
+                    location.getX(), location.getY(), location.getZ(), player.getPing()));
+        }
+    }
+
+    /** A player's position as last seen on their own thread */
+    private record ViewerPosition(UUID world, double x, double y, double z, int ping) {}
+
+    /**
+     * Distance based density tiers loaded from {@code particle-effects.lod}.
+     */
+    private static final class LevelOfDetail {
+
+        private static final LevelOfDetail DEFAULT = new LevelOfDetail(
+                new double[]{12 * 12, 24 * 24},
+                new double[]{1.0, 0.5, 0.25},
+                16 * 16,
+                EnumSet.of(Particle.SMOKE_NORMAL, Particle.WATER_BUBBLE),
+                200
+        );
+
+        private final double[] tierDistanceSq;
+        private final double[] tierDensity;
+        private final double decorativeDistanceSq;
+        private final Set<Particle> decorative;
+        private final int highPing;
+
+        private LevelOfDetail(double[] tierDistanceSq, double[] tierDensity, double decorativeDistanceSq,
+                              Set<Particle> decorative, int highPing) {
+            this.tierDistanceSq = tierDistanceSq;
+            this.tierDensity = tierDensity;
+            this.decorativeDistanceSq = decorativeDistanceSq;
+            this.decorative = decorative;
+            this.highPing = highPing;
+        }
+
+        private static LevelOfDetail load(@Nullable ConfigurationSection section) {
+            if (section == null) return DEFAULT;
+
+            List<Map<?, ?>> tiers = section.getMapList("tiers");
+            tiers.sort(Comparator.comparingDouble(tier -> number(tier.get("distance"), 0)));
+
+            // Viewers beyond the last tier distance use the last tier's density
+            int size = Math.max(1, tiers.size());
+            double[] distanceSq = new double[size - 1];
+            double[] density = new double[size];
+            density[0] = 1.0;
+
+            for (int i = 0; i < tiers.size(); i++) {
+                Map<?, ?> tier = tiers.get(i);
+                density[i] = Math.max(0, Math.min(1, number(tier.get("density"), 1)));
+                if (i < size - 1) {
+                    double distance = number(tier.get("distance"), 0);
+                    distanceSq[i] = distance * distance;
+                }
+            }
+
+            Set<Particle> decorative = EnumSet.noneOf(Particle.class);
+            for (String name : section.getStringList("decorative")) {
+                try {
+                    decorative.add(Particle.valueOf(name.toUpperCase()));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+
+            double decorativeDistance = section.getDouble("decorative-distance", 16);
+            return new LevelOfDetail(distanceSq, density, decorativeDistance * decorativeDistance,
+                    decorative, section.getInt("high-ping", 200));
+        }
+
+        private double density(Particle particle, double distanceSq, int tierShift) {
+            if (distanceSq > decorativeDistanceSq && decorative.contains(particle)) return 0;
+
+            int tier = 0;
+            while (tier < tierDistanceSq.length && distanceSq > tierDistanceSq[tier]) tier++;
+            return tierDensity[Math.min(tier + tierShift, tierDensity.length - 1)];
+        }
+
+        private static double number(Object value, double def) {
+            return value instanceof Number number ? number.doubleValue() : def;
+        }
+    }
+
+    /**
+     * A queued emission, reused once flushed. Two emissions are equal when everything but the
+     * count matches, which is what allows them to be merged into a single packet.
+     */
+    private static final class Emission {
+
+        private Particle particle;
+        private UUID world;
+        private double x, y, z;
+        private double offsetX, offsetY, offsetZ;
+        private double extra;
+        private Object data;
+        private String dataType;
+        private int count;
+
+        private void set(Particle particle, UUID world, double x, double y, double z, int count,
+                         double offsetX, double offsetY, double offsetZ, double extra, Object data) {
+            this.particle = particle;
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.count = count;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.offsetZ = offsetZ;
+            this.extra = extra;
+            this.data = data;
+            this.dataType = data != null ? data.getClass().getSimpleName() : "none";
+        }
+
+        private double distanceSquared(double viewerX, double viewerY, double viewerZ) {
+            double dx = x - viewerX;
+            double dy = y - viewerY;
+            double dz = z - viewerZ;
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Emission other)) return false;
+            return particle == other.particle
+                    && x == other.x && y == other.y && z == other.z
+                    && offsetX == other.offsetX && offsetY == other.offsetY && offsetZ == other.offsetZ
+                    && extra == other.extra
+                    && (count == 0) == (other.count == 0)
+                    && world.equals(other.world)
+                    && Objects.equals(data, other.data);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = particle.hashCode();
+            hash = 31 * hash + Double.hashCode(x);
+            hash = 31 * hash + Double.hashCode(y);
+            hash = 31 * hash + Double.hashCode(z);
+            return hash;
+        }
+    }
+}
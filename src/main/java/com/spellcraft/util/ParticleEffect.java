@@ -9,6 +9,8 @@ import org.bukkit.inventory.ItemStack;
  * Enum representing all supported particle effects in the game.
  * Wraps {@link Particle} and provides utility methods for displaying
  * the particle at a location with optional data and offsets.
+ * <p>
+ * Displays are queued in the {@link ParticleBuffer} and sent once per tick.
  */
 public enum ParticleEffect {
 
@@ -27,6 +29,7 @@ public enum ParticleEffect {
 	COMPOSTER(Particle.COMPOSTER),
 	CRIMSON_SPORE(Particle.CRIMSON_SPORE),
 	CRIT(Particle.CRIT),
+	CRIT_MAGIC(Particle.CRIT_MAGIC),
 	CURRENT_DOWN(Particle.CURRENT_DOWN),
 	DAMAGE_INDICATOR(Particle.DAMAGE_INDICATOR),
 	DOLPHIN(Particle.DOLPHIN),
@@ -73,6 +76,7 @@ public enum ParticleEffect {
 	SMOKE_NORMAL(Particle.SMOKE_NORMAL),
 	SMOKE_LARGE(Particle.SMOKE_LARGE),
 	SNEEZE(Particle.SNEEZE),
+	SNOWFLAKE(Particle.SNOWFLAKE),
 	SNOW_SHOVEL(Particle.SNOW_SHOVEL),
 	SNOWBALL(Particle.SNOWBALL),
 	SOUL(Particle.SOUL),
@@ -192,27 +196,22 @@ public enum ParticleEffect {
 	) {
 		if (loc == null || loc.getWorld() == null) return;
 
-		if (data == null || dataClass == Void.class || !dataClass.isInstance(data)) {
-			loc.getWorld().spawnParticle(
-					particle,
-					loc,
-					amount,
-					offsetX,
-					offsetY,
-					offsetZ,
-					extra
-			);
-		} else {
-			loc.getWorld().spawnParticle(
-					particle,
-					loc,
-					amount,
-					offsetX,
-					offsetY,
-					offsetZ,
-					extra,
-					data
-			);
+		if (data != null && (dataClass == Void.class || !dataClass.isInstance(data))) {
+			data = null;
 		}
+
+		ParticleBuffer.emit(
+				particle,
+				loc.getWorld(),
+				loc.getX(),
+				loc.getY(),
+				loc.getZ(),
+				amount,
+				offsetX,
+				offsetY,
+				offsetZ,
+				extra,
+				data
+		);
 	}
 }
@@ -0,0 +1,170 @@
+package com.spellcraft.util;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Predicate;
+
+/**
+ * Utility class for allocation-free ray marching.
+ * <p>
+ * Block traversal uses a DDA voxel walk (Amanatides and Woo), so every block the ray passes
+ * through is visited exactly once and nothing is allocated per step. Entity tests go through
+ * the tick's {@link SpatialIndex}.
+ */
+public final class RayTrace {
+
+    /** Private constructor to prevent instantiation. */
+    private RayTrace() {}
+
+    /**
+     * Receives the blocks visited by {@link #traverse}.
+     */
+    @FunctionalInterface
+    public interface BlockVisitor {
+
+        /**
+         * @param x        block x
+         * @param y        block y
+         * @param z        block z
+         * @param type     the block's {@link Material}
+         * @param distance distance along the ray at which the block is entered
+         * @return true to stop the traversal at this block
+         */
+        boolean visit(int x, int y, int z, Material type, double distance);
+    }
+
+    /**
+     * Walks every block along a ray, starting with the block containing the origin.
+     *
+     * @param world       the {@link World} to read blocks from
+     * @param maxDistance the maximum distance to walk
+     * @param visitor     called for each block until it returns true
+     * @return the distance at which the visitor stopped, or {@code maxDistance} if it never did
+     */
+    public static double traverse(@NotNull World world,
+                                  double ox, double oy, double oz,
+                                  double dx, double dy, double dz,
+                                  double maxDistance, @NotNull BlockVisitor visitor) {
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length == 0) return maxDistance;
+        dx /= length;
+        dy /= length;
+        dz /= length;
+
+        int x = (int) Math.floor(ox);
+        int y = (int) Math.floor(oy);
+        int z = (int) Math.floor(oz);
+
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+        int stepZ = dz > 0 ? 1 : -1;
+
+        // Distance along the ray needed to cross one block on each axis
+        double deltaX = dx == 0 ? Double.MAX_VALUE : Math.abs(1 / dx);
+        double deltaY = dy == 0 ? Double.MAX_VALUE : Math.abs(1 / dy);
+        double deltaZ = dz == 0 ? Double.MAX_VALUE : Math.abs(1 / dz);
+
+        // Distance along the ray to the first boundary on each axis
+        double nextX = dx == 0 ? Double.MAX_VALUE : (dx > 0 ? x + 1 - ox : ox - x) * deltaX;
+        double nextY = dy == 0 ? Double.MAX_VALUE : (dy > 0 ? y + 1 - oy : oy - y) * deltaY;
+        double nextZ = dz == 0 ? Double.MAX_VALUE : (dz > 0 ? z + 1 - oz : oz - z) * deltaZ;
+
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        double distance = 0;
+
+        while (distance <= maxDistance) {
+            if (y >= minY && y < maxY && visitor.visit(x, y, z, world.getType(x, y, z), distance)) {
+                return distance;
+            }
+
+            if (nextX <= nextY && nextX <= nextZ) {
+                distance = nextX;
+                nextX += deltaX;
+                x += stepX;
+            } else if (nextY <= nextZ) {
+                distance = nextY;
+                nextY += deltaY;
+                y += stepY;
+            } else {
+                distance = nextZ;
+                nextZ += deltaZ;
+                z += stepZ;
+            }
+        }
+        return maxDistance;
+    }
+
+    /**
+     * Finds the first block along a ray whose type matches a filter.
+     *
+     * @param world       the {@link World} to read blocks from
+     * @param maxDistance the maximum distance to search
+     * @param filter      the block types that stop the ray
+     * @return the matching {@link Block}, or null if none is found
+     */
+    public static @Nullable Block firstBlock(@NotNull World world,
+                                             double ox, double oy, double oz,
+                                             double dx, double dy, double dz,
+                                             double maxDistance, @NotNull Predicate<Material> filter) {
+        int[] hit = new int[3];
+        boolean[] found = new boolean[1];
+
+        traverse(world, ox, oy, oz, dx, dy, dz, maxDistance, (x, y, z, type, distance) -> {
+            if (!filter.test(type)) return false;
+            hit[0] = x;
+            hit[1] = y;
+            hit[2] = z;
+            found[0] = true;
+            return true;
+        });
+
+        return found[0] ? world.getBlockAt(hit[0], hit[1], hit[2]) : null;
+    }
+
+    /**
+     * Measures how far a ray travels before it enters a solid block.
+     *
+     * @param world       the {@link World} to read blocks from
+     * @param maxDistance the maximum distance to check
+     * @return the distance to the first solid block, or {@code maxDistance}
+     */
+    public static double distanceToSolid(@NotNull World world,
+                                         double ox, double oy, double oz,
+                                         double dx, double dy, double dz,
+                                         double maxDistance) {
+        return traverse(world, ox, oy, oz, dx, dy, dz, maxDistance,
+                (x, y, z, type, distance) -> type.isSolid());
+    }
+
+    /**
+     * Finds the first {@link LivingEntity} touched by a ray swept with the given radius.
+     * Blocks are not considered; limit {@code maxDistance} with {@link #distanceToSolid} for that.
+     *
+     * @param world       the {@link World} to query
+     * @param maxDistance the length of the ray
+     * @param radius      the radius around the ray
+     * @param filter      only entities accepted by this predicate can be hit
+     * @return the closest hit along the ray, or null
+     */
+    public static @Nullable LivingEntity firstEntity(@NotNull World world,
+                                                     double ox, double oy, double oz,
+                                                     double dx, double dy, double dz,
+                                                     double maxDistance, double radius,
+                                                     @NotNull Predicate<LivingEntity> filter) {
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (length == 0) return null;
+        double scale = maxDistance / length;
+
+        return SpatialIndex.of(world).firstInCapsule(
+                ox, oy, oz,
+                ox + dx * scale, oy + dy * scale, oz + dz * scale,
+                radius, filter
+        );
+    }
+}
@@ -0,0 +1,343 @@
+package com.spellcraft.util;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.util.BoundingBox;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Per-tick snapshot of {@link LivingEntity} bounding boxes used for spell hit detection.
+ * <p>
+ * Entities are bucketed by chunk column. A column is read from the world the first time a
+ * query touches it during a tick and its bounding boxes are copied into primitive arrays, so
+ * every further query in that tick is plain arithmetic. Indexes are kept per thread and per
+ * world, which keeps them region-local on Folia.
+ * <p>
+ * Query methods clear and fill a caller-supplied list so hot spells can reuse one buffer.
+ */
+public final class SpatialIndex {
+
+    private static final ThreadLocal<Map<UUID, SpatialIndex>> INDEXES = ThreadLocal.withInitial(HashMap::new);
+
+    /** Blocks searched beyond a query so entities centred in a neighbouring column are still found. */
+    private static final double MARGIN = 2.0;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CELLS = 64;
+    private static final int INITIAL_ENTITIES = 64;
+
+    private final World world;
+    private int tick = Integer.MIN_VALUE;
+
+    // Open addressing table of chunk columns, keyed by packed chunk coordinates
+    private long[] cellKeys = new long[INITIAL_CELLS];
+    private int[] cellStarts = new int[INITIAL_CELLS];
+    private int[] cellCounts = new int[INITIAL_CELLS];
+    private int cellCount;
+
+    // Snapshot of entities, boxes are stored as minX, minY, minZ, maxX, maxY, maxZ
+    private LivingEntity[] entities = new LivingEntity[INITIAL_ENTITIES];
+    private double[] boxes = new double[INITIAL_ENTITIES * 6];
+    private int size;
+
+    private SpatialIndex(World world) {
+        this.world = world;
+        Arrays.fill(cellKeys, EMPTY);
+    }
+
+    /**
+     * Gets the index of the given world for the current tick and thread.
+     *
+     * @param world the {@link World} to query
+     * @return the {@link SpatialIndex}, reset if it was built during an earlier tick
+     */
+    public static SpatialIndex of(@NotNull World world) {
+        Map<UUID, SpatialIndex> indexes = INDEXES.get();
+        SpatialIndex index = indexes.get(world.getUID());
+
+        if (index == null || index.world != world) {
+            index = new SpatialIndex(world);
+            indexes.put(world.getUID(), index);
+        }
+
+        index.refresh();
+        return index;
+    }
+
+    /**
+     * Collects entities whose bounding box overlaps the given box.
+     * This matches the semantics of {@link World#getNearbyEntities}.
+     *
+     * @param x  centre x
+     * @param y  centre y
+     * @param z  centre z
+     * @param rx half size on the x axis
+     * @param ry half size on the y axis
+     * @param rz half size on the z axis
+     * @param out buffer that is cleared and filled with the result
+     * @return {@code out}
+     */
+    public List<LivingEntity> queryBox(double x, double y, double z, double rx, double ry, double rz,
+                                       @NotNull List<LivingEntity> out) {
+        out.clear();
+        double minX = x - rx, minY = y - ry, minZ = z - rz;
+        double maxX = x + rx, maxY = y + ry, maxZ = z + rz;
+
+        int minCx = chunk(minX - MARGIN), maxCx = chunk(maxX + MARGIN);
+        int minCz = chunk(minZ - MARGIN), maxCz = chunk(maxZ + MARGIN);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                int slot = cell(cx, cz);
+                int end = cellStarts[slot] + cellCounts[slot];
+
+                for (int i = cellStarts[slot]; i < end; i++) {
+                    int b = i * 6;
+                    if (boxes[b + 3] < minX || boxes[b] > maxX) continue;
+                    if (boxes[b + 4] < minY || boxes[b + 1] > maxY) continue;
+                    if (boxes[b + 5] < minZ || boxes[b + 2] > maxZ) continue;
+                    out.add(entities[i]);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Collects entities whose bounding box is within {@code radius} of a point.
+     *
+     * @param x      centre x
+     * @param y      centre y
+     * @param z      centre z
+     * @param radius sphere radius
+     * @param out    buffer that is cleared and filled with the result
+     * @return {@code out}
+     */
+    public List<LivingEntity> querySphere(double x, double y, double z, double radius,
+                                          @NotNull List<LivingEntity> out) {
+        out.clear();
+        double radiusSq = radius * radius;
+
+        int minCx = chunk(x - radius - MARGIN), maxCx = chunk(x + radius + MARGIN);
+        int minCz = chunk(z - radius - MARGIN), maxCz = chunk(z + radius + MARGIN);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                int slot = cell(cx, cz);
+                int end = cellStarts[slot] + cellCounts[slot];
+
+                for (int i = cellStarts[slot]; i < end; i++) {
+                    int b = i * 6;
+                    double dx = Math.max(boxes[b] - x, Math.max(0, x - boxes[b + 3]));
+                    double dy = Math.max(boxes[b + 1] - y, Math.max(0, y - boxes[b + 4]));
+                    double dz = Math.max(boxes[b + 2] - z, Math.max(0, z - boxes[b + 5]));
+                    if (dx * dx + dy * dy + dz * dz <= radiusSq) out.add(entities[i]);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Collects entities hit by a capsule swept from {@code a} to {@code b}.
+     * <p>
+     * Each bounding box is grown by {@code radius} and tested against the segment, which is
+     * what stepping a cube of that radius along the segment would find.
+     *
+     * @param out buffer that is cleared and filled with the result
+     * @return {@code out}
+     */
+    public List<LivingEntity> queryCapsule(double ax, double ay, double az,
+                                           double bx, double by, double bz,
+                                           double radius, @NotNull List<LivingEntity> out) {
+        out.clear();
+        double dx = bx - ax, dy = by - ay, dz = bz - az;
+
+        int minCx = chunk(Math.min(ax, bx) - radius - MARGIN), maxCx = chunk(Math.max(ax, bx) + radius + MARGIN);
+        int minCz = chunk(Math.min(az, bz) - radius - MARGIN), maxCz = chunk(Math.max(az, bz) + radius + MARGIN);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                int slot = cell(cx, cz);
+                int end = cellStarts[slot] + cellCounts[slot];
+
+                for (int i = cellStarts[slot]; i < end; i++) {
+                    if (segmentEntry(i, ax, ay, az, dx, dy, dz, radius) >= 0) out.add(entities[i]);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Finds the entity a capsule swept from {@code a} to {@code b} touches first.
+     *
+     * @param filter only entities accepted by this predicate are considered
+     * @return the closest hit along the segment, or {@code null}
+     */
+    public @Nullable LivingEntity firstInCapsule(double ax, double ay, double az,
+                                                 double bx, double by, double bz,
+                                                 double radius, @NotNull Predicate<LivingEntity> filter) {
+        double dx = bx - ax, dy = by - ay, dz = bz - az;
+
+        int minCx = chunk(Math.min(ax, bx) - radius - MARGIN), maxCx = chunk(Math.max(ax, bx) + radius + MARGIN);
+        int minCz = chunk(Math.min(az, bz) - radius - MARGIN), maxCz = chunk(Math.max(az, bz) + radius + MARGIN);
+
+        LivingEntity closest = null;
+        double closestT = Double.MAX_VALUE;
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                int slot = cell(cx, cz);
+                int end = cellStarts[slot] + cellCounts[slot];
+
+                for (int i = cellStarts[slot]; i < end; i++) {
+                    double t = segmentEntry(i, ax, ay, az, dx, dy, dz, radius);
+                    if (t < 0 || t >= closestT || !filter.test(entities[i])) continue;
+                    closest = entities[i];
+                    closestT = t;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Slab test of a segment against a grown bounding box.
+     *
+     * @return the segment parameter in [0, 1] where the box is entered, or -1 on a miss
+     */
+    private double segmentEntry(int i, double ax, double ay, double az,
+                                double dx, double dy, double dz, double radius) {
+        int b = i * 6;
+        double tMin = 0, tMax = 1;
+
+        for (int axis = 0; axis < 3; axis++) {
+            double origin = axis == 0 ? ax : axis == 1 ? ay : az;
+            double delta = axis == 0 ? dx : axis == 1 ? dy : dz;
+            double min = boxes[b + axis] - radius;
+            double max = boxes[b + axis + 3] + radius;
+
+            if (Math.abs(delta) < 1.0E-9) {
+                if (origin < min || origin > max) return -1;
+                continue;
+            }
+
+            double t1 = (min - origin) / delta;
+            double t2 = (max - origin) / delta;
+            if (t1 > t2) {
+                double swap = t1;
+                t1 = t2;
+                t2 = swap;
+            }
+
+            tMin = Math.max(tMin, t1);
+            tMax = Math.min(tMax, t2);
+            if (tMin > tMax) return -1;
+        }
+        return tMin;
+    }
+
+    private void refresh() {
+        int now = Bukkit.getCurrentTick();
+        if (now == tick) return;
+        tick = now;
+
+        Arrays.fill(cellKeys, EMPTY);
+        Arrays.fill(entities, 0, size, null);
+        cellCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Gets the table slot of a chunk column, reading its entities on first access this tick.
+     */
+    private int cell(int cx, int cz) {
+        long key = ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+        int mask = cellKeys.length - 1;
+        int slot = mix(key) & mask;
+
+        while (cellKeys[slot] != EMPTY) {
+            if (cellKeys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+
+        if ((cellCount + 1) * 2 > cellKeys.length) {
+            growCells();
+            return cell(cx, cz);
+        }
+
+        cellKeys[slot] = key;
+        cellStarts[slot] = size;
+        cellCount++;
+        load(cx, cz);
+        cellCounts[slot] = size - cellStarts[slot];
+        return slot;
+    }
+
+    private void load(int cx, int cz) {
+        if (!world.isChunkLoaded(cx, cz)) return;
+        if (!Bukkit.isOwnedByCurrentRegion(world, cx, cz)) return;
+
+        for (Entity entity : world.getChunkAt(cx, cz).getEntities()) {
+            if (!(entity instanceof LivingEntity living) || !living.isValid()) continue;
+
+            if (size == entities.length) {
+                entities = Arrays.copyOf(entities, size * 2);
+                boxes = Arrays.copyOf(boxes, size * 12);
+            }
+
+            BoundingBox box = living.getBoundingBox();
+            int b = size * 6;
+            boxes[b] = box.getMinX();
+            boxes[b + 1] = box.getMinY();
+            boxes[b + 2] = box.getMinZ();
+            boxes[b + 3] = box.getMaxX();
+            boxes[b + 4] = box.getMaxY();
+            boxes[b + 5] = box.getMaxZ();
+            entities[size++] = living;
+        }
+    }
+
+    private void growCells() {
+        long[] oldKeys = cellKeys;
+        int[] oldStarts = cellStarts;
+        int[] oldCounts = cellCounts;
+
+        cellKeys = new long[oldKeys.length * 2];
+        cellStarts = new int[oldKeys.length * 2];
+        cellCounts = new int[oldKeys.length * 2];
+        Arrays.fill(cellKeys, EMPTY);
+
+        int mask = cellKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+
+            int slot = mix(oldKeys[i]) & mask;
+            while (cellKeys[slot] != EMPTY) slot = (slot + 1) & mask;
+
+            cellKeys[slot] = oldKeys[i];
+            cellStarts[slot] = oldStarts[i];
+            cellCounts[slot] = oldCounts[i];
+        }
+    }
+
+    private static int chunk(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> 4;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
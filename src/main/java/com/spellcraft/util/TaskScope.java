@@ -0,0 +1,160 @@
+package com.spellcraft.util;
+
+import com.spellcraft.SpellCraftPlugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+
+/**
+ * Owner of scheduled tasks with a bounded lifetime, such as a player session or a single cast.
+ * <p>
+ * Tasks are attached with {@link ThreadUtil.ThreadTask#ownedBy(TaskScope)}. Closing the scope
+ * cancels every task it still owns, closes its child scopes and runs its close hooks, so
+ * nothing scheduled on behalf of the owner outlives it. One-shot tasks leave the scope on
+ * their own once they have run.
+ */
+public final class TaskScope {
+
+    private final String name;
+    private final @Nullable TaskScope parent;
+
+    private final Set<ThreadUtil.ThreadTask> tasks = ConcurrentHashMap.newKeySet();
+    private final Set<TaskScope> children = ConcurrentHashMap.newKeySet();
+    private final List<Runnable> closeHooks = new CopyOnWriteArrayList<>();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a root scope.
+     *
+     * @param name a name for debugging
+     */
+    public TaskScope(@NotNull String name) {
+        this(name, null);
+    }
+
+    private TaskScope(String name, @Nullable TaskScope parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a scope that is closed together with this one.
+     * The child is returned already closed if this scope is.
+     *
+     * @param name a name for debugging
+     * @return the new child scope
+     */
+    public TaskScope child(@NotNull String name) {
+        TaskScope child = new TaskScope(name, this);
+        children.add(child);
+        if (closed) child.close();
+        return child;
+    }
+
+    /**
+     * Attaches a task to this scope. A task attached to a closed scope is cancelled immediately.
+     *
+     * @param task the task, may be null for tasks that were never scheduled
+     * @return the same task
+     */
+    public ThreadUtil.ThreadTask own(@Nullable ThreadUtil.ThreadTask task) {
+        if (task == null) return null;
+
+        tasks.add(task);
+        task.attach(this);
+        // Re-check after adding, close() may have drained the set or the task finished in between
+        if (closed) {
+            release(task);
+            task.cancel();
+        } else if (task.isDone()) {
+            release(task);
+        }
+        return task;
+    }
+
+    /**
+     * Registers an action to run once when the scope closes.
+     * Runs immediately if the scope is already closed.
+     */
+    public void onClose(@NotNull Runnable hook) {
+        closeHooks.add(hook);
+        if (closed && closeHooks.remove(hook)) runHook(hook);
+    }
+
+    /**
+     * Cancels every owned task, closes all child scopes and runs the close hooks.
+     * Closing an already closed scope has no effect.
+     */
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        for (ThreadUtil.ThreadTask task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
+
+        for (TaskScope child : children) {
+            child.close();
+        }
+        children.clear();
+
+        for (Runnable hook : closeHooks) {
+            if (closeHooks.remove(hook)) runHook(hook);
+        }
+
+        if (parent != null) parent.children.remove(this);
+    }
+
+    /**
+     * @return true once {@link #close()} has been called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return the number of tasks still owned by this scope, excluding child scopes
+     */
+    public int getTaskCount() {
+        return tasks.size();
+    }
+
+    /**
+     * @return the number of open child scopes
+     */
+    public int getChildCount() {
+        return children.size();
+    }
+
+    /**
+     * @return the name given to this scope
+     */
+    public String getName() {
+        return name;
+    }
+
+    /** Forgets a task that finished or was cancelled on its own */
+    void release(ThreadUtil.ThreadTask task) {
+        tasks.remove(task);
+    }
+
+    private void runHook(Runnable hook) {
+        try {
+            hook.run();
+        } catch (Exception e) {
+            SpellCraftPlugin.log.log(Level.WARNING, "Error closing task scope " + name, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TaskScope[" + name + ", tasks=" + tasks.size() + ", children=" + children.size() + "]";
+    }
+}
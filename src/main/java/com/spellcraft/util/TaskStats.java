@@ -0,0 +1,133 @@
+package com.spellcraft.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Run time statistics of scheduled tasks, aggregated per task label.
+ * <p>
+ * Every runnable scheduled through {@link ThreadUtil} is wrapped to record its calls,
+ * total and maximum run time and thrown errors. Counters are striped ({@link LongAdder}),
+ * so tasks running on many region threads at once do not contend on them.
+ */
+public final class TaskStats {
+
+    /** Label used for tasks scheduled without one. */
+    public static final String UNLABELED = "(unlabeled)";
+
+    /** Statistics by label. */
+    private static final Map<String, TaskStats> STATS = new ConcurrentHashMap<>();
+
+    private final String label;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder errors = new LongAdder();
+
+    private TaskStats(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @param label the task label, null for unlabeled tasks
+     * @return the statistics of every task sharing that label
+     */
+    public static TaskStats of(@Nullable String label) {
+        String key = label != null ? label : UNLABELED;
+        TaskStats stats = STATS.get(key);
+        return stats != null ? stats : STATS.computeIfAbsent(key, TaskStats::new);
+    }
+
+    /**
+     * Wraps a runnable to record each of its runs under the given label.
+     *
+     * @param runnable the task to run
+     * @param label the task label, null for unlabeled tasks
+     * @return the recording runnable
+     */
+    public static Runnable wrap(@NotNull Runnable runnable, @Nullable String label) {
+        TaskStats stats = of(label);
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                runnable.run();
+            } catch (RuntimeException | Error e) {
+                stats.errors.increment();
+                throw e;
+            } finally {
+                stats.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private void record(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * @return the statistics of all labels, most total run time first
+     */
+    public static List<TaskStats> getAll() {
+        List<TaskStats> all = new ArrayList<>(STATS.values());
+        all.sort(Comparator.comparingLong(TaskStats::getTotalNanos).reversed());
+        return all;
+    }
+
+    /**
+     * Clears the statistics of all labels.
+     * Counters are reset in place, since running tasks keep the instance they were wrapped with.
+     */
+    public static void resetAll() {
+        for (TaskStats stats : STATS.values()) {
+            stats.reset();
+        }
+    }
+
+    private void reset() {
+        calls.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+        errors.reset();
+    }
+
+    /** @return the label these statistics are recorded under */
+    public String getLabel() {
+        return label;
+    }
+
+    /** @return the number of completed runs */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /** @return the total run time in nanoseconds */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /** @return the longest single run in nanoseconds */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /** @return the average run time in nanoseconds, 0 if never run */
+    public long getAverageNanos() {
+        long count = getCalls();
+        return count == 0 ? 0 : getTotalNanos() / count;
+    }
+
+    /** @return the number of runs that threw */
+    public long getErrors() {
+        return errors.sum();
+    }
+}
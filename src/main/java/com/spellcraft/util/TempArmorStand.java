@@ -18,6 +18,7 @@ public class TempArmorStand {
     private static final Set<TempArmorStand> INSTANCES = new HashSet<>();
 
     private final ArmorStand stand;
+    private ExpiryWheel.Expiry expiry;
 
     /**
      * Creates a new invisible, marker, invulnerable, and gravity-free armor stand
@@ -49,16 +50,28 @@ public class TempArmorStand {
      * Removes this temporary armor stand from the world and unregisters it.
      */
     public void remove() {
+        if (expiry != null) expiry.cancel();
         stand.remove();
         INSTANCES.remove(this);
     }
 
+    /**
+     * Removes this armor stand automatically after a delay, replacing any earlier delay.
+     *
+     * @param ticks ticks until the armor stand is removed
+     */
+    public void removeAfter(long ticks) {
+        if (expiry != null) expiry.cancel();
+        expiry = ExpiryWheel.schedule(stand, ticks, this::remove);
+    }
+
     /**
      * Removes all currently tracked temporary armor stands from the world
      * and clears the internal registry.
      */
     public static void removeAll() {
         for (TempArmorStand tas : new HashSet<>(INSTANCES)) {
+            if (tas.expiry != null) tas.expiry.cancel();
             tas.stand.remove();
         }
         INSTANCES.clear();
@@ -1,24 +1,24 @@
 package com.spellcraft.util;
 
+import com.spellcraft.core.jfr.TempBlockEvent;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.block.data.BlockData;
 
-import java.util.*;
-
 /**
  * Represents a temporary block in the world that can be changed and later reverted
- * to its original state. Multiple temporary changes to the same block are tracked in a stack.
+ * to its original state. Multiple temporary changes to the same block are tracked in a stack,
+ * stored by {@link TempBlockManager}.
  */
 public class TempBlock {
 
-    private static final Map<Block, Deque<TempBlock>> INSTANCES = new HashMap<>();
-
     private final Block block;
-    private final BlockState originalState;
+    private final TempBlockManager.ChunkShard shard;
+    private BlockState originalState;
     private BlockData newData;
     private boolean reverted;
+    private ExpiryWheel.Expiry expiry;
 
     /**
      * Creates a temporary block with the specified material.
@@ -37,15 +37,45 @@ public class TempBlock {
      * @param data the {@link BlockData} to set temporarily
      */
     public TempBlock(Block block, BlockData data) {
+        TempBlockEvent event = new TempBlockEvent();
+        event.begin();
+
         this.block = block;
         this.newData = data;
         this.reverted = false;
+        this.shard = TempBlockManager.push(this);
+
+        event.complete(TempBlockEvent.CREATE, 1);
+    }
 
-        Deque<TempBlock> stack = INSTANCES.computeIfAbsent(block, b -> new ArrayDeque<>());
-        this.originalState = stack.isEmpty() ? block.getState() : stack.peek().originalState;
-        stack.push(this);
+    /** Sets the state restored once every change on the block is reverted, called while pushing */
+    void attach(BlockState originalState) {
+        this.originalState = originalState;
+    }
 
-        block.setBlockData(data, false);
+    /** @return the block state from before the first temporary change on this block */
+    BlockState getOriginalState() {
+        return originalState;
+    }
+
+    /** Marks this change reverted, returns false if it already was */
+    boolean markReverted() {
+        if (reverted) return false;
+        reverted = true;
+        if (expiry != null) expiry.cancel();
+        return true;
+    }
+
+    /**
+     * Reverts this temporary block automatically after a delay, replacing any earlier delay.
+     * Reverting it sooner cancels the timer.
+     *
+     * @param ticks ticks until the block is reverted
+     */
+    public void revertAfter(long ticks) {
+        if (reverted) return;
+        if (expiry != null) expiry.cancel();
+        expiry = ExpiryWheel.schedule(block.getLocation(), ticks, this::revert);
     }
 
     /**
@@ -55,18 +85,9 @@ public class TempBlock {
     public void revert() {
         if (reverted) return;
 
-        reverted = true;
-        Deque<TempBlock> stack = INSTANCES.get(block);
-        if (stack == null) return;
-
-        stack.remove(this);
-
-        if (stack.isEmpty()) {
-            originalState.update(true, false);
-            INSTANCES.remove(block);
-        } else {
-            block.setBlockData(stack.peek().newData, false);
-        }
+        TempBlockEvent event = new TempBlockEvent();
+        event.begin();
+        if (shard.remove(this)) event.complete(TempBlockEvent.REVERT, 1);
     }
 
     /** @return true if this temporary block has already been reverted */
@@ -89,9 +110,10 @@ public class TempBlock {
      *
      * @param block the {@link Block} to check
      * @return true if this block has any active temporary changes
+     * @see TempBlockManager#isTempBlock(Block)
      */
     public static boolean isTempBlock(Block block) {
-        return INSTANCES.containsKey(block);
+        return TempBlockManager.isTempBlock(block);
     }
 
     /**
@@ -99,21 +121,18 @@ public class TempBlock {
      *
      * @param block the {@link Block} to look up
      * @return the top {@link TempBlock} or null if none exist
+     * @see TempBlockManager#getTop(Block)
      */
     public static TempBlock getTop(Block block) {
-        Deque<TempBlock> stack = INSTANCES.get(block);
-        return stack == null ? null : stack.peek();
+        return TempBlockManager.getTop(block);
     }
 
     /**
      * Reverts all temporary blocks currently tracked, restoring them to their original states.
+     *
+     * @see TempBlockManager#revertAll()
      */
     public static void revertAll() {
-        for (Deque<TempBlock> stack : new ArrayList<>(INSTANCES.values())) {
-            for (TempBlock tb : new ArrayList<>(stack)) {
-                tb.revert();
-            }
-        }
-        INSTANCES.clear();
+        TempBlockManager.revertAll();
     }
 }
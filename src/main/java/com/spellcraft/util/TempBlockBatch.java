@@ -0,0 +1,170 @@
+package com.spellcraft.util;
+
+import com.spellcraft.core.jfr.TempBlockEvent;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects the world writes of {@link TempBlock} changes and reverts made on one thread and
+ * applies them together when closed.
+ * <p>
+ * While a batch is open, temp blocks are tracked as usual, so {@link TempBlock#isTempBlock}
+ * and {@link TempBlock#getTop} answer immediately, but the blocks themselves keep their old
+ * data until {@link #close()}. Writes are grouped by chunk section, and several changes to the
+ * same block collapse into its final state, so each block is written at most once per batch.
+ * The server sends each section changed in a tick as one multi-block change, so applying a
+ * section's writes together in the same tick also keeps them in one packet.
+ * <p>
+ * Batches belong to the thread that opened them, so they only ever contain blocks that thread
+ * owns. Opening a batch inside another joins the outer one.
+ * <pre>{@code
+ * try (TempBlockBatch batch = TempBlockBatch.open()) {
+ *     for (Block block : wall) new TempBlock(block, Material.STONE).revertAfter(200);
+ * }
+ * }</pre>
+ */
+public final class TempBlockBatch implements AutoCloseable {
+
+    private static final ThreadLocal<TempBlockBatch> CURRENT = new ThreadLocal<>();
+
+    /** Pending writes by world UID, then packed section key, then packed block key */
+    private final Map<UUID, Map<Long, Map<Long, Write>>> sections = new HashMap<>();
+    private int depth = 1;
+    private int writes;
+
+    private TempBlockBatch() {}
+
+    /**
+     * Opens a batch on the current thread, or joins the one already open.
+     *
+     * @return the batch, to be closed by the caller
+     */
+    public static TempBlockBatch open() {
+        TempBlockBatch batch = CURRENT.get();
+        if (batch != null) {
+            batch.depth++;
+            return batch;
+        }
+
+        batch = new TempBlockBatch();
+        CURRENT.set(batch);
+        return batch;
+    }
+
+    /**
+     * @return true if the current thread has a batch open
+     */
+    public static boolean isOpen() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * @return the number of blocks waiting to be written
+     */
+    public int getPendingCount() {
+        return writes;
+    }
+
+    /**
+     * Applies every pending write, one section at a time. Closing a joined batch only leaves it,
+     * the writes are applied when the outermost batch is closed.
+     */
+    @Override
+    public void close() {
+        if (--depth > 0) return;
+        CURRENT.remove();
+        if (writes == 0) return;
+
+        TempBlockEvent event = new TempBlockEvent();
+        event.begin();
+        for (Map<Long, Map<Long, Write>> world : sections.values()) {
+            for (Map<Long, Write> section : world.values()) {
+                for (Write write : section.values()) {
+                    write.apply();
+                }
+            }
+        }
+        event.complete(TempBlockEvent.APPLY, writes);
+        sections.clear();
+        writes = 0;
+    }
+
+    /**
+     * Sets block data, deferred if the current thread has a batch open.
+     */
+    static void setBlockData(Block block, BlockData data) {
+        TempBlockBatch batch = CURRENT.get();
+        if (batch == null) {
+            block.setBlockData(data, false);
+        } else {
+            batch.put(new Write(block, data, null));
+        }
+    }
+
+    /**
+     * Restores a block's saved state, deferred if the current thread has a batch open.
+     */
+    static void restore(Block block, BlockState state) {
+        TempBlockBatch batch = CURRENT.get();
+        if (batch == null) {
+            state.update(true, false);
+        } else {
+            batch.put(new Write(block, null, state));
+        }
+    }
+
+    /**
+     * Gets the saved state the current thread's batch is about to restore on a block. Until the
+     * batch closes, that state and not the block's current one is what the block really holds.
+     *
+     * @return the pending restored state, or null if none is pending
+     */
+    static BlockState pendingRestore(Block block) {
+        TempBlockBatch batch = CURRENT.get();
+        if (batch == null) return null;
+
+        Map<Long, Map<Long, Write>> world = batch.sections.get(block.getWorld().getUID());
+        if (world == null) return null;
+        Map<Long, Write> section = world.get(sectionKey(block.getX() >> 4, block.getY() >> 4, block.getZ() >> 4));
+        if (section == null) return null;
+        Write write = section.get(TempBlockManager.blockKey(block));
+        return write == null ? null : write.state;
+    }
+
+    private void put(Write write) {
+        Block block = write.block;
+        World world = block.getWorld();
+        Map<Long, Write> section = sections
+                .computeIfAbsent(world.getUID(), uid -> new HashMap<>())
+                .computeIfAbsent(sectionKey(block.getX() >> 4, block.getY() >> 4, block.getZ() >> 4), key -> new LinkedHashMap<>());
+        if (section.put(TempBlockManager.blockKey(block), write) == null) writes++;
+    }
+
+    /**
+     * Packs section coordinates into one key: 22 bits each for X and Z, 20 bits for Y.
+     */
+    private static long sectionKey(int x, int y, int z) {
+        return ((long) x & 0x3FFFFF) << 42 | ((long) z & 0x3FFFFF) << 20 | (y & 0xFFFFF);
+    }
+
+    /**
+     * The final state of one block, either new data or a saved state to restore.
+     */
+    private record Write(Block block, BlockData data, BlockState state) {
+
+        void apply() {
+            if (state != null) {
+                state.update(true, false);
+            } else {
+                block.setBlockData(data, false);
+            }
+        }
+    }
+}
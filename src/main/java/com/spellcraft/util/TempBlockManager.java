@@ -0,0 +1,275 @@
+package com.spellcraft.util;
+
+import com.spellcraft.core.jfr.TempBlockEvent;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks active {@link TempBlock}s, sharded by world and chunk.
+ * <p>
+ * Every chunk holding temp blocks has its own shard, mapping packed block coordinates to the
+ * stack of changes on that block. On Folia a chunk is owned by one region at a time, so a
+ * region thread only locks shards of its own chunks and never waits on another region. The
+ * per-shard lock covers the remaining callers, such as shutdown or bulk reverts started
+ * elsewhere.
+ * <p>
+ * Changes to a block must still be made by the thread owning its chunk. Their world writes go
+ * through {@link TempBlockBatch}, so they are deferred while the thread has a batch open.
+ */
+public final class TempBlockManager {
+
+    /** Chunk shards by world UID, then packed chunk key */
+    private static final Map<UUID, Map<Long, ChunkShard>> WORLDS = new ConcurrentHashMap<>();
+
+    /** Private constructor to prevent instantiation. */
+    private TempBlockManager() {}
+
+    /**
+     * Checks if the given block is currently tracked as a temporary block.
+     *
+     * @param block the {@link Block} to check
+     * @return true if this block has any active temporary changes
+     */
+    public static boolean isTempBlock(Block block) {
+        ChunkShard shard = find(block);
+        return shard != null && shard.contains(blockKey(block));
+    }
+
+    /**
+     * Gets the top-most temporary block change for the given block.
+     *
+     * @param block the {@link Block} to look up
+     * @return the top {@link TempBlock} or null if none exist
+     */
+    public static TempBlock getTop(Block block) {
+        ChunkShard shard = find(block);
+        return shard == null ? null : shard.top(blockKey(block));
+    }
+
+    /**
+     * Reverts every temporary block in a chunk, restoring each block's original state once.
+     * Must be called from the thread owning the chunk.
+     *
+     * @param chunk the {@link Chunk} to revert
+     * @return the number of temporary blocks reverted
+     */
+    public static int revertChunk(Chunk chunk) {
+        return revertChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Reverts every temporary block in a chunk, restoring each block's original state once.
+     * Must be called from the thread owning the chunk.
+     *
+     * @param world the {@link World} of the chunk
+     * @param chunkX the chunk X coordinate
+     * @param chunkZ the chunk Z coordinate
+     * @return the number of temporary blocks reverted
+     */
+    public static int revertChunk(World world, int chunkX, int chunkZ) {
+        Map<Long, ChunkShard> chunks = WORLDS.get(world.getUID());
+        if (chunks == null) return 0;
+
+        ChunkShard shard = chunks.get(chunkKey(chunkX, chunkZ));
+        if (shard == null) return 0;
+
+        TempBlockEvent event = new TempBlockEvent();
+        event.begin();
+        int reverted = shard.revertAll();
+        event.complete(TempBlockEvent.REVERT, reverted);
+        return reverted;
+    }
+
+    /**
+     * Reverts every temporary block in a world, one chunk shard at a time.
+     * Only safe where the caller may modify every chunk, such as during shutdown.
+     *
+     * @param world the {@link World} to revert
+     * @return the number of temporary blocks reverted
+     */
+    public static int revertAll(World world) {
+        Map<Long, ChunkShard> chunks = WORLDS.get(world.getUID());
+        if (chunks == null) return 0;
+
+        TempBlockEvent event = new TempBlockEvent();
+        event.begin();
+        int reverted = revertShards(chunks);
+        event.complete(TempBlockEvent.REVERT, reverted);
+        return reverted;
+    }
+
+    /**
+     * Reverts every temporary block in every world, one chunk shard at a time.
+     * Only safe where the caller may modify every chunk, such as during shutdown.
+     *
+     * @return the number of temporary blocks reverted
+     */
+    public static int revertAll() {
+        TempBlockEvent event = new TempBlockEvent();
+        event.begin();
+
+        int reverted = 0;
+        for (Map<Long, ChunkShard> chunks : WORLDS.values()) {
+            reverted += revertShards(chunks);
+        }
+        event.complete(TempBlockEvent.REVERT, reverted);
+        return reverted;
+    }
+
+    /** @return the number of chunks currently holding temporary blocks */
+    public static int getChunkCount() {
+        int count = 0;
+        for (Map<Long, ChunkShard> chunks : WORLDS.values()) {
+            count += chunks.size();
+        }
+        return count;
+    }
+
+    private static int revertShards(Map<Long, ChunkShard> chunks) {
+        int reverted = 0;
+        for (ChunkShard shard : new ArrayList<>(chunks.values())) {
+            reverted += shard.revertAll();
+        }
+        return reverted;
+    }
+
+    /**
+     * Pushes a new change onto its block's stack and applies it.
+     * Called by the {@link TempBlock} constructor.
+     */
+    static ChunkShard push(TempBlock tempBlock) {
+        Block block = tempBlock.getBlock();
+        Map<Long, ChunkShard> chunks = WORLDS.computeIfAbsent(block.getWorld().getUID(), uid -> new ConcurrentHashMap<>());
+        long chunkKey = chunkKey(block.getX() >> 4, block.getZ() >> 4);
+
+        // A shard emptied by another thread between lookup and lock is retired, fetch a fresh one
+        while (true) {
+            ChunkShard shard = chunks.computeIfAbsent(chunkKey, key -> new ChunkShard(chunks, key));
+            if (shard.push(tempBlock)) return shard;
+        }
+    }
+
+    private static ChunkShard find(Block block) {
+        Map<Long, ChunkShard> chunks = WORLDS.get(block.getWorld().getUID());
+        return chunks == null ? null : chunks.get(chunkKey(block.getX() >> 4, block.getZ() >> 4));
+    }
+
+    /**
+     * Packs block coordinates into one key: 26 bits each for X and Z, 12 bits for Y.
+     */
+    static long blockKey(Block block) {
+        return ((long) block.getX() & 0x3FFFFFF) << 38
+                | ((long) block.getZ() & 0x3FFFFFF) << 12
+                | (block.getY() & 0xFFF);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * The temporary block stacks of one chunk.
+     * Removes itself from its world once its last block is reverted.
+     */
+    static final class ChunkShard {
+
+        private final Map<Long, ChunkShard> owner;
+        private final long chunkKey;
+        private final Map<Long, Deque<TempBlock>> stacks = new HashMap<>();
+        private boolean retired;
+
+        private ChunkShard(Map<Long, ChunkShard> owner, long chunkKey) {
+            this.owner = owner;
+            this.chunkKey = chunkKey;
+        }
+
+        private synchronized boolean push(TempBlock tempBlock) {
+            if (retired) return false;
+
+            Block block = tempBlock.getBlock();
+            Deque<TempBlock> stack = stacks.computeIfAbsent(blockKey(block), key -> new ArrayDeque<>(2));
+            tempBlock.attach(stack.isEmpty() ? originalState(block) : stack.peekLast().getOriginalState());
+            stack.push(tempBlock);
+            TempBlockBatch.setBlockData(block, tempBlock.getBlockData());
+            return true;
+        }
+
+        /**
+         * Removes a change from its block's stack, restoring the block below it.
+         *
+         * @return false if the change was already reverted
+         */
+        synchronized boolean remove(TempBlock tempBlock) {
+            if (!tempBlock.markReverted()) return false;
+
+            long key = blockKey(tempBlock.getBlock());
+            Deque<TempBlock> stack = stacks.get(key);
+            if (stack == null || !stack.remove(tempBlock)) return false;
+
+            if (stack.isEmpty()) {
+                TempBlockBatch.restore(tempBlock.getBlock(), tempBlock.getOriginalState());
+                stacks.remove(key);
+                if (stacks.isEmpty()) retire();
+            } else {
+                TempBlockBatch.setBlockData(tempBlock.getBlock(), stack.peek().getBlockData());
+            }
+            return true;
+        }
+
+        /**
+         * The state to restore once a block's first change is reverted. A block reverted earlier in
+         * the open batch still shows its temp data, so the state it is about to be restored to is used.
+         */
+        private static BlockState originalState(Block block) {
+            BlockState pending = TempBlockBatch.pendingRestore(block);
+            return pending != null ? pending : block.getState();
+        }
+
+        private synchronized boolean contains(long key) {
+            return stacks.containsKey(key);
+        }
+
+        private synchronized TempBlock top(long key) {
+            Deque<TempBlock> stack = stacks.get(key);
+            return stack == null ? null : stack.peek();
+        }
+
+        /**
+         * Reverts every block in this shard, restoring each original state directly
+         * instead of unwinding the stack one change at a time.
+         *
+         * @return the number of temporary blocks reverted
+         */
+        synchronized int revertAll() {
+            int reverted = 0;
+            List<Deque<TempBlock>> all = new ArrayList<>(stacks.values());
+            stacks.clear();
+            retire();
+
+            for (Deque<TempBlock> stack : all) {
+                TempBlock bottom = stack.peekLast();
+                for (TempBlock tempBlock : stack) {
+                    if (tempBlock.markReverted()) reverted++;
+                }
+                TempBlockBatch.restore(bottom.getBlock(), bottom.getOriginalState());
+            }
+            return reverted;
+        }
+
+        private void retire() {
+            retired = true;
+            owner.remove(chunkKey, this);
+        }
+    }
+}
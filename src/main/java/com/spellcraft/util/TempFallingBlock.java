@@ -17,9 +17,13 @@ public class TempFallingBlock {
 
     private static final Map<FallingBlock, TempFallingBlock> INSTANCES = new ConcurrentHashMap<>();
 
+    /** Lifetime of blocks created with expire=true, in ticks */
+    private static final long EXPIRE_TICKS = 5 * 20;
+    /** Lifetime of every other block, in ticks */
+    private static final long MAX_LIFETIME_TICKS = 120 * 20;
+
     private final FallingBlock entity;
-    private final long creationTime;
-    private final boolean canExpire;
+    private ExpiryWheel.Expiry expiry;
     private Consumer<TempFallingBlock> onLand;
 
     /**
@@ -28,7 +32,7 @@ public class TempFallingBlock {
      * @param loc the {@link Location} to spawn the falling block
      * @param data the {@link BlockData} of the falling block
      * @param velocity the initial {@link Vector} velocity of the block
-     * @param expire true if the block should automatically expire after a short duration
+     * @param expire true if the block should automatically expire after 5 seconds instead of 2 minutes
      */
     public TempFallingBlock(Location loc, BlockData data, Vector velocity, boolean expire) {
         this.entity = loc.getWorld().spawnFallingBlock(loc, data.clone());
@@ -36,10 +40,8 @@ public class TempFallingBlock {
         this.entity.setDropItem(false);
         this.entity.setHurtEntities(false);
 
-        this.creationTime = System.currentTimeMillis();
-        this.canExpire = expire;
-
         INSTANCES.put(entity, this);
+        removeAfter(expire ? EXPIRE_TICKS : MAX_LIFETIME_TICKS);
     }
 
     /** @return the underlying {@link FallingBlock} entity */
@@ -49,10 +51,21 @@ public class TempFallingBlock {
 
     /** Removes the falling block and unregisters it from internal tracking */
     public void remove() {
+        if (expiry != null) expiry.cancel();
         entity.remove();
         INSTANCES.remove(entity);
     }
 
+    /**
+     * Removes the falling block after a delay, replacing its current lifetime.
+     *
+     * @param ticks ticks until the block is removed
+     */
+    public void removeAfter(long ticks) {
+        if (expiry != null) expiry.cancel();
+        expiry = ExpiryWheel.schedule(entity, ticks, this::remove);
+    }
+
     /**
      * Sets a callback to be executed when this block lands.
      *
@@ -67,21 +80,6 @@ public class TempFallingBlock {
         if (onLand != null) onLand.accept(this);
     }
 
-    /**
-     * Ticks all temporary falling blocks, removing them if their lifetime has expired.
-     * Blocks with canExpire=true expire after 5 seconds; all blocks are forcibly removed after 2 minutes.
-     */
-    public static void tick() {
-        long now = System.currentTimeMillis();
-
-        for (TempFallingBlock tfb : INSTANCES.values()) {
-            if ((tfb.canExpire && now - tfb.creationTime > 5000)
-                    || now - tfb.creationTime > 120000) {
-                tfb.remove();
-            }
-        }
-    }
-
     /**
      * Checks if the given falling block is a tracked temporary falling block.
      *
@@ -105,6 +103,7 @@ public class TempFallingBlock {
     /** Removes all tracked temporary falling blocks immediately */
     public static void removeAll() {
         for (TempFallingBlock tfb : INSTANCES.values()) {
+            if (tfb.expiry != null) tfb.expiry.cancel();
             tfb.entity.remove();
         }
         INSTANCES.clear();
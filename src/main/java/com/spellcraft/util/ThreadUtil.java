@@ -9,6 +9,8 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.List;
 import java.util.Map;
@@ -16,7 +18,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 import static com.cjcrafter.foliascheduler.util.ServerVersions.isFolia;
@@ -40,6 +44,19 @@ public class ThreadUtil {
     /** Map of task IDs to weak references of running tasks. */
     private static final Map<Long, WeakReference<ThreadTask>> TASKS = new ConcurrentHashMap<>();
 
+    /** Receives the references of tasks that were garbage collected, see {@link #purgeStale()}. */
+    private static final ReferenceQueue<ThreadTask> STALE = new ReferenceQueue<>();
+
+    /** Registry reference remembering its task ID, so it can be removed once the task is collected. */
+    private static final class TaskRef extends WeakReference<ThreadTask> {
+        private final long id;
+
+        private TaskRef(ThreadTask task) {
+            super(task, STALE);
+            this.id = task.getId();
+        }
+    }
+
     /**
      * Represents a registered task with unique ID, optional label, and underlying handle
      * (BukkitTask, FoliaTask, or TaskImplementation).
@@ -49,6 +66,11 @@ public class ThreadUtil {
         private final String label;
         private final Object handle;
 
+        /** Scope owning this task, if any */
+        private volatile TaskScope scope;
+        /** Set once a one-shot task has run */
+        private volatile boolean done;
+
         private ThreadTask(long id, String label, Object handle) {
             this.id = id;
             this.label = label;
@@ -70,6 +92,33 @@ public class ThreadUtil {
             return handle;
         }
 
+        /**
+         * Attaches this task to a scope, so it is cancelled when the scope closes.
+         *
+         * @param scope the owning scope
+         * @return this task
+         */
+        public ThreadTask ownedBy(@NotNull TaskScope scope) {
+            scope.own(this);
+            return this;
+        }
+
+        /** @return true if this is a one-shot task that has already run */
+        public boolean isDone() {
+            return done;
+        }
+
+        /** Called by {@link TaskScope#own(ThreadTask)} */
+        void attach(TaskScope scope) {
+            this.scope = scope;
+        }
+
+        /** Marks a one-shot task as run and forgets it. */
+        private void complete() {
+            done = true;
+            cleanup();
+        }
+
         /**
          * Cancels the task if it is still active.
          *
@@ -104,9 +153,11 @@ public class ThreadUtil {
             return true;
         }
 
-        /** Removes this task from the global task registry. */
+        /** Removes this task from the global task registry and its scope. */
         private void cleanup() {
             TASKS.remove(id);
+            TaskScope owner = scope;
+            if (owner != null) owner.release(this);
         }
     }
 
@@ -123,7 +174,39 @@ public class ThreadUtil {
     private static ThreadTask register(Object handle, String label) {
         long id = TASK_ID_COUNTER.incrementAndGet();
         ThreadTask task = new ThreadTask(id, label, handle);
-        TASKS.put(id, new WeakReference<>(task));
+        purgeStale();
+        TASKS.put(id, new TaskRef(task));
+        return task;
+    }
+
+    /** Removes registry entries whose task was garbage collected. */
+    private static void purgeStale() {
+        Reference<? extends ThreadTask> ref;
+        while ((ref = STALE.poll()) != null) {
+            TASKS.remove(((TaskRef) ref).id, ref);
+        }
+    }
+
+    /**
+     * Schedules a one-shot task whose {@link ThreadTask} completes itself once it has run,
+     * so it leaves the task registry and its scope without being cancelled.
+     *
+     * @param runnable the task to run
+     * @param label optional label
+     * @param schedule schedules the wrapped runnable and returns the underlying handle
+     * @return the registered {@link ThreadTask}
+     */
+    private static ThreadTask registerOnce(Runnable runnable, String label, Function<Runnable, Object> schedule) {
+        AtomicReference<ThreadTask> ref = new AtomicReference<>();
+        ThreadTask task = register(schedule.apply(() -> {
+            try {
+                runnable.run();
+            } finally {
+                ThreadTask self = ref.get();
+                if (self != null) self.complete();
+            }
+        }), label);
+        ref.set(task);
         return task;
     }
 
@@ -142,16 +225,24 @@ public class ThreadUtil {
 
     /** @return a list of weak references to all currently registered tasks */
     public static List<WeakReference<ThreadTask>> getAllRunningTasks() {
+        purgeStale();
         return TASKS.values().stream().toList();
     }
 
+    /** @return the number of tasks currently in the registry */
+    public static int getRegisteredTaskCount() {
+        purgeStale();
+        return TASKS.size();
+    }
+
     /**
      * Runs a task safely on the main thread for a specific entity.
      *
      * @param entity the target entity
-     * @param runnable the task to execute
+     * @param action the task to execute
      */
-    public static void ensureEntity(@NotNull Entity entity, @NotNull Runnable runnable) {
+    public static void ensureEntity(@NotNull Entity entity, @NotNull Runnable action) {
+        Runnable runnable = TaskStats.wrap(action, "ensureEntity");
         if (entity instanceof Player player && !player.isOnline()) return;
         if (isFolia()) {
             if (scheduler.isOwnedByCurrentRegion(entity) || SHUTTING_DOWN.get()) {
@@ -184,16 +275,18 @@ public class ThreadUtil {
      * Schedules a delayed task for an entity with optional label.
      *
      * @param entity the target entity
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay ticks to delay
      * @param label optional label for the task
      * @return the scheduled {@link ThreadTask} or null if entity offline
      */
-    public static ThreadTask ensureEntityLater(@NotNull Entity entity, @NotNull Runnable runnable, long delay, String label) {
+    public static ThreadTask ensureEntityLater(@NotNull Entity entity, @NotNull Runnable action, long delay, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
         if (entity instanceof Player player && !player.isOnline()) return null;
-        delay = Math.max(1, delay);
-        if (isFolia()) return register(scheduler.entity(entity).runDelayed(runnable, delay), label);
-        return register(Bukkit.getScheduler().runTaskLater(plugin, runnable, delay), label);
+        long ticks = Math.max(1, delay);
+        return registerOnce(runnable, label, task -> isFolia()
+                ? scheduler.entity(entity).runDelayed(task, ticks)
+                : Bukkit.getScheduler().runTaskLater(plugin, task, ticks));
     }
 
     /**
@@ -213,13 +306,14 @@ public class ThreadUtil {
      * Schedules a repeating task for an entity with optional label.
      *
      * @param entity the target entity
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay initial delay
      * @param repeat repeat interval
      * @param label optional label for the task
      * @return the scheduled {@link ThreadTask} or null if entity offline
      */
-    public static ThreadTask ensureEntityTimer(@NotNull Entity entity, @NotNull Runnable runnable, long delay, long repeat, String label) {
+    public static ThreadTask ensureEntityTimer(@NotNull Entity entity, @NotNull Runnable action, long delay, long repeat, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
         if (entity instanceof Player player && !player.isOnline()) return null;
         delay = Math.max(1, delay);
         repeat = Math.max(1, repeat);
@@ -239,9 +333,10 @@ public class ThreadUtil {
      * Runs a task safely on the main thread for a specific location.
      *
      * @param location the target location
-     * @param runnable the task to execute
+     * @param action the task to execute
      */
-    public static void ensureLocation(@NotNull Location location, @NotNull Runnable runnable) {
+    public static void ensureLocation(@NotNull Location location, @NotNull Runnable action) {
+        Runnable runnable = TaskStats.wrap(action, "ensureLocation");
         if (isFolia()) {
             if (scheduler.isOwnedByCurrentRegion(location) || SHUTTING_DOWN.get()) {
                 runCatch(runnable, "Error in ensureLocation task on shutdown");
@@ -273,20 +368,19 @@ public class ThreadUtil {
      * Schedules a delayed task for a location with optional label.
      *
      * @param location the target location
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay ticks to delay
      * @param label optional label
      * @return the scheduled {@link ThreadTask}
      */
-    public static ThreadTask ensureLocationLater(@NotNull Location location, @NotNull Runnable runnable, long delay, String label) {
-        delay = Math.max(1, delay);
-        if (isFolia()) return register(
-                scheduler.region(location).runDelayed(task -> {
-                    if (!runCatch(runnable, "Error in ensureLocationLater")) task.cancel();
-                }, delay),
-                label
-        );
-        return register(Bukkit.getScheduler().runTaskLater(plugin, runnable, delay), label);
+    public static ThreadTask ensureLocationLater(@NotNull Location location, @NotNull Runnable action, long delay, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
+        long ticks = Math.max(1, delay);
+        return registerOnce(runnable, label, once -> isFolia()
+                ? scheduler.region(location).runDelayed(task -> {
+                    if (!runCatch(once, "Error in ensureLocationLater")) task.cancel();
+                }, ticks)
+                : Bukkit.getScheduler().runTaskLater(plugin, once, ticks));
     }
 
     /**
@@ -306,13 +400,14 @@ public class ThreadUtil {
      * Schedules a repeating task for a location with optional label.
      *
      * @param location the target location
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay initial delay
      * @param repeat repeat interval
      * @param label optional label
      * @return the scheduled {@link ThreadTask}
      */
-    public static ThreadTask ensureLocationTimer(@NotNull Location location, @NotNull Runnable runnable, long delay, long repeat, String label) {
+    public static ThreadTask ensureLocationTimer(@NotNull Location location, @NotNull Runnable action, long delay, long repeat, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
         delay = Math.max(1, delay);
         repeat = Math.max(1, repeat);
         if (isFolia()) return register(
@@ -328,9 +423,10 @@ public class ThreadUtil {
     /**
      * Runs a task asynchronously.
      *
-     * @param runnable the task to run
+     * @param action the task to run
      */
-    public static void runAsync(@NotNull Runnable runnable) {
+    public static void runAsync(@NotNull Runnable action) {
+        Runnable runnable = TaskStats.wrap(action, "runAsync");
         if (isFolia()) {
             if (SHUTTING_DOWN.get()) {
                 runCatch(runnable, "Error in runAsync task on shutdown");
@@ -358,20 +454,19 @@ public class ThreadUtil {
     /**
      * Runs a task asynchronously after a delay with optional label.
      *
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay ticks to delay
      * @param label optional label
      * @return the scheduled {@link ThreadTask}
      */
-    public static ThreadTask runAsyncLater(@NotNull Runnable runnable, long delay, String label) {
-        delay = Math.max(1, delay);
-        if (isFolia()) return register(
-                scheduler.async().runDelayed(task -> {
-                    if (!runCatch(runnable, "Error in runAsyncLater task")) task.cancel();
-                }, delay * 50L, TimeUnit.MILLISECONDS),
-                label
-        );
-        return register(Bukkit.getScheduler().runTaskLater(plugin, runnable, delay), label);
+    public static ThreadTask runAsyncLater(@NotNull Runnable action, long delay, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
+        long ticks = Math.max(1, delay);
+        return registerOnce(runnable, label, once -> isFolia()
+                ? scheduler.async().runDelayed(task -> {
+                    if (!runCatch(once, "Error in runAsyncLater task")) task.cancel();
+                }, ticks * 50L, TimeUnit.MILLISECONDS)
+                : Bukkit.getScheduler().runTaskLater(plugin, once, ticks));
     }
 
     /**
@@ -389,13 +484,14 @@ public class ThreadUtil {
     /**
      * Runs a repeating asynchronous task with optional label.
      *
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay initial delay
      * @param repeat repeat interval
      * @param label optional label
      * @return the scheduled {@link ThreadTask}
      */
-    public static ThreadTask runAsyncTimer(@NotNull Runnable runnable, long delay, long repeat, String label) {
+    public static ThreadTask runAsyncTimer(@NotNull Runnable action, long delay, long repeat, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
         delay = Math.max(1, delay);
         if (isFolia()) return register(
                 scheduler.async().runAtFixedRate((Consumer<TaskImplementation<Void>>) task -> runnable.run(),
@@ -409,9 +505,10 @@ public class ThreadUtil {
     /**
      * Runs a task globally on the main thread.
      *
-     * @param runnable the task to run
+     * @param action the task to run
      */
-    public static void runGlobal(@NotNull Runnable runnable) {
+    public static void runGlobal(@NotNull Runnable action) {
+        Runnable runnable = TaskStats.wrap(action, "runGlobal");
         if (isFolia()) {
             if (SHUTTING_DOWN.get()) {
                 runCatch(runnable, "Error in runGlobal task on shutdown");
@@ -439,20 +536,19 @@ public class ThreadUtil {
     /**
      * Runs a global task after a delay with optional label.
      *
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay ticks to delay
      * @param label optional label
      * @return the scheduled {@link ThreadTask}
      */
-    public static ThreadTask runGlobalLater(@NotNull Runnable runnable, long delay, String label) {
-        delay = Math.max(1, delay);
-        if (isFolia()) return register(
-                scheduler.global().runDelayed(task -> {
-                    if (!runCatch(runnable, "Error in runGlobalLater task")) task.cancel();
-                }, delay),
-                label
-        );
-        return register(Bukkit.getScheduler().runTaskLater(plugin, runnable, delay), label);
+    public static ThreadTask runGlobalLater(@NotNull Runnable action, long delay, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
+        long ticks = Math.max(1, delay);
+        return registerOnce(runnable, label, once -> isFolia()
+                ? scheduler.global().runDelayed(task -> {
+                    if (!runCatch(once, "Error in runGlobalLater task")) task.cancel();
+                }, ticks)
+                : Bukkit.getScheduler().runTaskLater(plugin, once, ticks));
     }
 
     /**
@@ -470,13 +566,14 @@ public class ThreadUtil {
     /**
      * Runs a repeating global task with optional label.
      *
-     * @param runnable the task to run
+     * @param action the task to run
      * @param delay initial delay
      * @param repeat repeat interval
      * @param label optional label
      * @return the scheduled {@link ThreadTask}
      */
-    public static ThreadTask runGlobalTimer(@NotNull Runnable runnable, long delay, long repeat, String label) {
+    public static ThreadTask runGlobalTimer(@NotNull Runnable action, long delay, long repeat, String label) {
+        Runnable runnable = TaskStats.wrap(action, label);
         delay = Math.max(1, delay);
         if (isFolia()) return register(
                 scheduler.global().runAtFixedRate(task -> {
@@ -0,0 +1,61 @@
+package com.spellcraft.util;
+
+/**
+ * Shared server tick counter.
+ * <p>
+ * Incremented once per tick by a global task, and readable from any thread without
+ * allocation. Time based state such as cooldowns stores deadlines as ticks of this clock.
+ */
+public final class TickClock {
+
+    /** Milliseconds in one tick at 20 TPS. */
+    public static final long MILLIS_PER_TICK = 50;
+
+    private static volatile long tick;
+    private static ThreadUtil.ThreadTask task;
+
+    /** Private constructor to prevent instantiation. */
+    private TickClock() {}
+
+    /**
+     * Starts counting ticks.
+     */
+    public static void start() {
+        if (task != null) return;
+        // Only the global tick thread writes the counter
+        task = ThreadUtil.runGlobalTimer(() -> tick++, 1L, 1L, "Tick Clock");
+    }
+
+    /**
+     * Stops counting. The current value is kept.
+     */
+    public static void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * @return the number of ticks counted since the clock was started
+     */
+    public static long now() {
+        return tick;
+    }
+
+    /**
+     * Converts a duration to ticks, rounding up so it never ends early.
+     *
+     * @param millis the duration in milliseconds
+     * @return the duration in ticks
+     */
+    public static long toTicks(long millis) {
+        return millis <= 0 ? 0 : (millis + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK;
+    }
+
+    /**
+     * @param ticks a duration in ticks
+     * @return the duration in milliseconds
+     */
+    public static long toMillis(long ticks) {
+        return ticks * MILLIS_PER_TICK;
+    }
+}